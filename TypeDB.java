@@ -25,6 +25,8 @@ import com.vaticle.typedb.client.api.TypeDBClient;
 import com.vaticle.typedb.client.api.TypeDBCredential;
 import com.vaticle.typedb.client.connection.cluster.ClusterClient;
 import com.vaticle.typedb.client.connection.core.CoreClient;
+import com.vaticle.typedb.client.stream.FlushPolicy;
+import com.vaticle.typedb.client.stream.ThreadMode;
 
 import java.util.Set;
 
@@ -42,6 +44,18 @@ public class TypeDB {
         return new CoreClient(address, parallelisation);
     }
 
+    public static TypeDBClient coreClient(String address, int parallelisation, FlushPolicy flushPolicy) {
+        return new CoreClient(address, parallelisation, flushPolicy);
+    }
+
+    public static TypeDBClient coreClient(String address, int parallelisation, FlushPolicy flushPolicy, ThreadMode threadMode) {
+        return new CoreClient(address, parallelisation, flushPolicy, threadMode);
+    }
+
+    public static TypeDBClient coreClient(String address, int parallelisation, FlushPolicy flushPolicy, ThreadMode threadMode, long responseBufferBytes) {
+        return new CoreClient(address, parallelisation, flushPolicy, threadMode, responseBufferBytes);
+    }
+
     public static TypeDBClient.Cluster clusterClient(String address, TypeDBCredential credential) {
         return new ClusterClient(set(address), credential);
     }
@@ -58,4 +72,16 @@ public class TypeDB {
         return new ClusterClient(addresses, credential, parallelisation);
     }
 
+    public static TypeDBClient.Cluster clusterClient(Set<String> addresses, TypeDBCredential credential, int parallelisation, FlushPolicy flushPolicy) {
+        return new ClusterClient(addresses, credential, parallelisation, flushPolicy);
+    }
+
+    public static TypeDBClient.Cluster clusterClient(Set<String> addresses, TypeDBCredential credential, int parallelisation, FlushPolicy flushPolicy, ThreadMode threadMode) {
+        return new ClusterClient(addresses, credential, parallelisation, flushPolicy, threadMode);
+    }
+
+    public static TypeDBClient.Cluster clusterClient(Set<String> addresses, TypeDBCredential credential, int parallelisation, FlushPolicy flushPolicy, ThreadMode threadMode, long responseBufferBytes) {
+        return new ClusterClient(addresses, credential, parallelisation, flushPolicy, threadMode, responseBufferBytes);
+    }
+
 }
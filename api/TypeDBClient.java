@@ -41,6 +41,16 @@ public interface TypeDBClient extends AutoCloseable {
     @CheckReturnValue
     TypeDBSession session(String database, TypeDBSession.Type type, TypeDBOptions options);
 
+    @CheckReturnValue
+    TypeDBSessionPool sessionPool(int minSize, int maxSize, int idleTimeoutMillis);
+
+    // the smoothed round trip time to the server, and its mean deviation, as sent with every transaction open
+    @CheckReturnValue
+    double networkLatencyMillis();
+
+    @CheckReturnValue
+    double networkLatencyDeviationMillis();
+
     @CheckReturnValue
     boolean isCluster();
 
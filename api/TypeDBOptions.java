@@ -42,6 +42,8 @@ public class TypeDBOptions {
     private Integer sessionIdleTimeoutMillis = null;
     private Integer transactionTimeoutMillis = null;
     private Integer schemaLockAcquireTimeoutMillis = null;
+    private Integer streamBufferBytes = null;
+    private Integer readAheadBatches = null;
 
     private TypeDBOptions() {
     }
@@ -162,6 +164,32 @@ public class TypeDBOptions {
         return this;
     }
 
+    @CheckReturnValue
+    public Optional<Integer> streamBufferBytes() {
+        return Optional.ofNullable(streamBufferBytes);
+    }
+
+    public TypeDBOptions streamBufferBytes(int streamBufferBytes) {
+        if (streamBufferBytes < 1) {
+            throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, streamBufferBytes);
+        }
+        this.streamBufferBytes = streamBufferBytes;
+        return this;
+    }
+
+    @CheckReturnValue
+    public Optional<Integer> readAheadBatches() {
+        return Optional.ofNullable(readAheadBatches);
+    }
+
+    public TypeDBOptions readAheadBatches(int readAheadBatches) {
+        if (readAheadBatches < 1) {
+            throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, readAheadBatches);
+        }
+        this.readAheadBatches = readAheadBatches;
+        return this;
+    }
+
     @CheckReturnValue
     public Cluster asCluster() {
         throw new TypeDBClientException(ILLEGAL_CAST, className(Cluster.class));
@@ -46,6 +46,12 @@ public interface TypeDBSession extends AutoCloseable {
     @CheckReturnValue
     TypeDBTransaction transaction(TypeDBTransaction.Type type, TypeDBOptions options);
 
+    @CheckReturnValue
+    TypeDBTransactionPool transactionPool(int size);
+
+    @CheckReturnValue
+    TypeDBTransactionPool transactionPool(int size, TypeDBOptions options);
+
     void onClose(Runnable function);
 
     void close();
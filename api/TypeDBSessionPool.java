@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.api;
+
+import javax.annotation.CheckReturnValue;
+
+// Shares sessions between units of work. Sessions are pooled separately for each database, session type and options;
+// closing a leased session hands it back to the pool
+public interface TypeDBSessionPool extends AutoCloseable {
+
+    @CheckReturnValue
+    boolean isOpen();
+
+    @CheckReturnValue
+    TypeDBSession lease(String database, TypeDBSession.Type type);
+
+    @CheckReturnValue
+    TypeDBSession lease(String database, TypeDBSession.Type type, TypeDBOptions options);
+
+    @CheckReturnValue
+    Metrics metrics();
+
+    void close();
+
+    interface Metrics {
+
+        @CheckReturnValue
+        long leases();
+
+        // time spent waiting for a session because a pool was at its maximum size
+        @CheckReturnValue
+        long totalWaitNanos();
+
+        @CheckReturnValue
+        long maxWaitNanos();
+
+        @CheckReturnValue
+        int open();
+
+        @CheckReturnValue
+        int leased();
+
+        // leased sessions as a fraction of open sessions
+        @CheckReturnValue
+        double utilisation();
+    }
+}
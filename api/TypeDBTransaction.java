@@ -27,6 +27,8 @@ import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.api.query.QueryManager;
 import com.vaticle.typedb.protocol.TransactionProto;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 import javax.annotation.CheckReturnValue;
 import java.util.stream.Stream;
@@ -101,6 +103,16 @@ public interface TypeDBTransaction extends AutoCloseable {
 
         QueryFuture<TransactionProto.Transaction.Res> query(TransactionProto.Transaction.Req.Builder request);
 
+        CompletableFuture<TransactionProto.Transaction.Res> queryAsync(TransactionProto.Transaction.Req.Builder request);
+
         Stream<TransactionProto.Transaction.ResPart> stream(TransactionProto.Transaction.Req.Builder request);
+
+        Flow.Publisher<TransactionProto.Transaction.ResPart> publisher(TransactionProto.Transaction.Req.Builder request);
+
+        @CheckReturnValue
+        long bufferedResponseBytes();
+
+        @CheckReturnValue
+        int pendingRequests();
     }
 }
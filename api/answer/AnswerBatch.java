@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.api.answer;
+
+import com.google.protobuf.ByteString;
+import com.vaticle.typedb.client.api.concept.Concept;
+import com.vaticle.typedb.client.common.IID;
+import com.vaticle.typedb.client.common.Label;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import java.util.List;
+
+public interface AnswerBatch {
+
+    @CheckReturnValue
+    int size();
+
+    @CheckReturnValue
+    List<String> variables();
+
+    @CheckReturnValue
+    Column column(String variable);
+
+    @CheckReturnValue
+    List<Label> typeLabels();
+
+    interface Column {
+
+        @CheckReturnValue
+        String variable();
+
+        @CheckReturnValue
+        Kind kind(int row);
+
+        // the IID of each row is created once, and the same instance returned by later calls
+        @Nullable
+        @CheckReturnValue
+        IID iid(int row);
+
+        @Nullable
+        @CheckReturnValue
+        ByteString iidBytes(int row);
+
+        // index into typeLabels() of the row's type, or of the row itself when it is a type; -1 for values
+        @CheckReturnValue
+        int typeLabelID(int row);
+
+        @Nullable
+        @CheckReturnValue
+        Concept.ValueType valueType(int row);
+
+        // values are indexed by row, and only hold a value where valueType(row) matches;
+        // longs hold both LONG values and DATETIME values as epoch milliseconds in UTC
+        @CheckReturnValue
+        long longValue(int row);
+
+        @CheckReturnValue
+        double doubleValue(int row);
+
+        @CheckReturnValue
+        boolean booleanValue(int row);
+
+        // index into strings() of the row's STRING value
+        @CheckReturnValue
+        int stringID(int row);
+
+        // the array accessors return a copy of the whole column, which the caller is free to modify
+        @CheckReturnValue
+        long[] longs();
+
+        @CheckReturnValue
+        double[] doubles();
+
+        @CheckReturnValue
+        boolean[] booleans();
+
+        // index into strings() of each STRING value
+        @CheckReturnValue
+        int[] stringIDs();
+
+        @CheckReturnValue
+        List<String> strings();
+
+        enum Kind {
+            ABSENT,
+            ENTITY,
+            RELATION,
+            ATTRIBUTE,
+            TYPE,
+            VALUE
+        }
+    }
+}
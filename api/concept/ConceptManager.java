@@ -26,9 +26,11 @@ import com.vaticle.typedb.client.api.concept.type.AttributeType;
 import com.vaticle.typedb.client.api.concept.type.EntityType;
 import com.vaticle.typedb.client.api.concept.type.RelationType;
 import com.vaticle.typedb.client.api.concept.type.ThingType;
+import com.vaticle.typedb.client.common.IID;
 import com.vaticle.typedb.client.common.exception.TypeDBException;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nullable;
 
@@ -54,6 +56,10 @@ public interface ConceptManager {
     @CheckReturnValue
     Thing getThing(String iid);
 
+    @Nullable
+    @CheckReturnValue
+    Thing getThing(IID iid);
+
     @Nullable
     @CheckReturnValue
     EntityType getEntityType(String label);
@@ -74,4 +80,60 @@ public interface ConceptManager {
 
     @CheckReturnValue
     List<TypeDBException> getSchemaExceptions();
+
+    @CheckReturnValue
+    SchemaSnapshot schemaSnapshot();
+
+    // lookups by label are cached for the lifetime of the transaction, until the schema is changed through it
+    @CheckReturnValue
+    long cacheHits();
+
+    @CheckReturnValue
+    long cacheMisses();
+
+    @CheckReturnValue
+    ConceptManager.Async async();
+
+    // completes on a client thread, like QueryManager.Async, so dependent stages may block
+    interface Async {
+
+        @CheckReturnValue
+        CompletableFuture<ThingType> getRootThingType();
+
+        @CheckReturnValue
+        CompletableFuture<EntityType> getRootEntityType();
+
+        @CheckReturnValue
+        CompletableFuture<RelationType> getRootRelationType();
+
+        @CheckReturnValue
+        CompletableFuture<AttributeType> getRootAttributeType();
+
+        @CheckReturnValue
+        CompletableFuture<ThingType> getThingType(String label);
+
+        @CheckReturnValue
+        CompletableFuture<Thing> getThing(String iid);
+
+        @CheckReturnValue
+        CompletableFuture<Thing> getThing(IID iid);
+
+        @CheckReturnValue
+        CompletableFuture<EntityType> getEntityType(String label);
+
+        CompletableFuture<EntityType> putEntityType(String label);
+
+        @CheckReturnValue
+        CompletableFuture<RelationType> getRelationType(String label);
+
+        CompletableFuture<RelationType> putRelationType(String label);
+
+        @CheckReturnValue
+        CompletableFuture<AttributeType> getAttributeType(String label);
+
+        CompletableFuture<AttributeType> putAttributeType(String label, AttributeType.ValueType valueType);
+
+        @CheckReturnValue
+        CompletableFuture<List<TypeDBException>> getSchemaExceptions();
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.api.concept;
+
+import com.vaticle.typedb.client.api.concept.type.AttributeType;
+import com.vaticle.typedb.client.api.concept.type.RelationType;
+import com.vaticle.typedb.client.api.concept.type.RoleType;
+import com.vaticle.typedb.client.api.concept.type.ThingType;
+import com.vaticle.typedb.client.api.concept.type.Type;
+import com.vaticle.typeql.lang.common.TypeQLToken;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// An immutable copy of the schema, taken once; every lookup is answered from memory
+public interface SchemaSnapshot {
+
+    @CheckReturnValue
+    Stream<? extends ThingType> getThingTypes();
+
+    @CheckReturnValue
+    Stream<? extends RoleType> getRoleTypes();
+
+    @Nullable
+    @CheckReturnValue
+    ThingType getThingType(String label);
+
+    @Nullable
+    @CheckReturnValue
+    RoleType getRoleType(String scope, String label);
+
+    @Nullable
+    @CheckReturnValue
+    Type getSupertype(Type type);
+
+    @CheckReturnValue
+    Stream<? extends Type> getSupertypes(Type type);
+
+    @CheckReturnValue
+    Stream<? extends Type> getSubtypes(Type type);
+
+    @CheckReturnValue
+    Stream<? extends Type> getSubtypesExplicit(Type type);
+
+    @CheckReturnValue
+    Stream<? extends AttributeType> getOwns(ThingType type);
+
+    @CheckReturnValue
+    Stream<? extends AttributeType> getOwns(ThingType type, Set<TypeQLToken.Annotation> annotations);
+
+    @CheckReturnValue
+    Stream<? extends AttributeType> getOwnsExplicit(ThingType type);
+
+    @CheckReturnValue
+    Stream<? extends AttributeType> getOwnsExplicit(ThingType type, Set<TypeQLToken.Annotation> annotations);
+
+    @Nullable
+    @CheckReturnValue
+    AttributeType getOwnsOverridden(ThingType type, AttributeType attributeType);
+
+    @CheckReturnValue
+    Set<TypeQLToken.Annotation> getOwnsAnnotations(ThingType type, AttributeType attributeType);
+
+    @CheckReturnValue
+    Stream<? extends ThingType> getOwners(AttributeType type);
+
+    @CheckReturnValue
+    Stream<? extends RoleType> getPlays(ThingType type);
+
+    @CheckReturnValue
+    Stream<? extends RoleType> getPlaysExplicit(ThingType type);
+
+    @Nullable
+    @CheckReturnValue
+    RoleType getPlaysOverridden(ThingType type, RoleType roleType);
+
+    @CheckReturnValue
+    Stream<? extends ThingType> getPlayerTypes(RoleType type);
+
+    @CheckReturnValue
+    Stream<? extends RoleType> getRelates(RelationType type);
+
+    @CheckReturnValue
+    Stream<? extends RoleType> getRelatesExplicit(RelationType type);
+
+    @Nullable
+    @CheckReturnValue
+    RoleType getRelatesOverridden(RelationType type, RoleType roleType);
+}
@@ -158,6 +158,9 @@ public interface Attribute<VALUE> extends Thing {
         @CheckReturnValue
         AttributeType.Boolean getType();
 
+        @CheckReturnValue
+        boolean booleanValue();
+
         @Override
         @CheckReturnValue
         Attribute.Boolean.Remote asRemote(TypeDBTransaction transaction);
@@ -178,6 +181,9 @@ public interface Attribute<VALUE> extends Thing {
         @CheckReturnValue
         AttributeType.Long getType();
 
+        @CheckReturnValue
+        long longValue();
+
         @Override
         @CheckReturnValue
         Attribute.Long.Remote asRemote(TypeDBTransaction transaction);
@@ -198,6 +204,9 @@ public interface Attribute<VALUE> extends Thing {
         @CheckReturnValue
         AttributeType.Double getType();
 
+        @CheckReturnValue
+        double doubleValue();
+
         @Override
         @CheckReturnValue
         Attribute.Double.Remote asRemote(TypeDBTransaction transaction);
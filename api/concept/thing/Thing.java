@@ -28,6 +28,7 @@ import com.vaticle.typedb.client.api.concept.Concept;
 import com.vaticle.typedb.client.api.concept.type.AttributeType;
 import com.vaticle.typedb.client.api.concept.type.RoleType;
 import com.vaticle.typedb.client.api.concept.type.ThingType;
+import com.vaticle.typedb.client.common.IID;
 import com.vaticle.typeql.lang.common.TypeQLToken;
 
 import javax.annotation.CheckReturnValue;
@@ -39,6 +40,9 @@ public interface Thing extends Concept {
     @CheckReturnValue
     String getIID();
 
+    @CheckReturnValue
+    IID getRawIID();
+
     @CheckReturnValue
     ThingType getType();
 
@@ -120,6 +120,9 @@ public interface Value<VALUE> extends Concept {
         default boolean isBoolean() {
             return true;
         }
+
+        @CheckReturnValue
+        boolean booleanValue();
     }
 
     interface Long extends Value<java.lang.Long> {
@@ -128,6 +131,9 @@ public interface Value<VALUE> extends Concept {
         default boolean isLong() {
             return true;
         }
+
+        @CheckReturnValue
+        long longValue();
     }
 
     interface Double extends Value<java.lang.Double> {
@@ -136,6 +142,9 @@ public interface Value<VALUE> extends Concept {
         default boolean isDouble() {
             return true;
         }
+
+        @CheckReturnValue
+        double doubleValue();
     }
 
     interface String extends Value<java.lang.String> {
@@ -37,4 +37,11 @@ public interface LogicManager {
     Stream<? extends Rule> getRules();
 
     Rule putRule(String label, Pattern when, Pattern then);
+
+    // rules fetched by label are cached for the lifetime of the transaction, until the schema is changed through it
+    @CheckReturnValue
+    long cacheHits();
+
+    @CheckReturnValue
+    long cacheMisses();
 }
@@ -22,6 +22,7 @@
 package com.vaticle.typedb.client.api.query;
 
 import com.vaticle.typedb.client.api.TypeDBOptions;
+import com.vaticle.typedb.client.api.answer.AnswerBatch;
 import com.vaticle.typedb.client.api.answer.ConceptMap;
 import com.vaticle.typedb.client.api.answer.ConceptMapGroup;
 import com.vaticle.typedb.client.api.answer.Numeric;
@@ -35,6 +36,8 @@ import com.vaticle.typeql.lang.query.TypeQLUndefine;
 import com.vaticle.typeql.lang.query.TypeQLUpdate;
 
 import javax.annotation.CheckReturnValue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 public interface QueryManager {
@@ -51,6 +54,30 @@ public interface QueryManager {
     @CheckReturnValue
     Stream<ConceptMap> match(String query, TypeDBOptions options);
 
+    @CheckReturnValue
+    <T> Stream<T> match(TypeQLMatch query, RowMapper<T> mapper);
+
+    @CheckReturnValue
+    <T> Stream<T> match(TypeQLMatch query, TypeDBOptions options, RowMapper<T> mapper);
+
+    @CheckReturnValue
+    <T> Stream<T> match(String query, RowMapper<T> mapper);
+
+    @CheckReturnValue
+    <T> Stream<T> match(String query, TypeDBOptions options, RowMapper<T> mapper);
+
+    @CheckReturnValue
+    Stream<AnswerBatch> matchBatched(TypeQLMatch query);
+
+    @CheckReturnValue
+    Stream<AnswerBatch> matchBatched(TypeQLMatch query, TypeDBOptions options);
+
+    @CheckReturnValue
+    Stream<AnswerBatch> matchBatched(String query);
+
+    @CheckReturnValue
+    Stream<AnswerBatch> matchBatched(String query, TypeDBOptions options);
+
     @CheckReturnValue
     QueryFuture<Numeric> match(TypeQLMatch.Aggregate query);
 
@@ -132,4 +159,90 @@ public interface QueryManager {
 
     @CheckReturnValue
     Stream<Explanation> explain(ConceptMap.Explainable explainable, TypeDBOptions options);
+
+    @CheckReturnValue
+    QueryManager.Async async();
+
+    @CheckReturnValue
+    QueryManager.Reactive reactive();
+
+    // Answers complete on a client thread, never on the network thread, so dependent stages may block, including on
+    // further calls to the same transaction
+    interface Async {
+
+        @CheckReturnValue
+        CompletableFuture<Numeric> match(TypeQLMatch.Aggregate query);
+
+        @CheckReturnValue
+        CompletableFuture<Numeric> match(TypeQLMatch.Aggregate query, TypeDBOptions options);
+
+        @CheckReturnValue
+        CompletableFuture<Numeric> matchAggregate(String query);
+
+        @CheckReturnValue
+        CompletableFuture<Numeric> matchAggregate(String query, TypeDBOptions options);
+
+        CompletableFuture<Void> delete(TypeQLDelete query);
+
+        CompletableFuture<Void> delete(TypeQLDelete query, TypeDBOptions options);
+
+        CompletableFuture<Void> delete(String query);
+
+        CompletableFuture<Void> delete(String query, TypeDBOptions options);
+
+        CompletableFuture<Void> define(TypeQLDefine query);
+
+        CompletableFuture<Void> define(TypeQLDefine query, TypeDBOptions options);
+
+        CompletableFuture<Void> define(String query);
+
+        CompletableFuture<Void> define(String query, TypeDBOptions options);
+
+        CompletableFuture<Void> undefine(TypeQLUndefine query);
+
+        CompletableFuture<Void> undefine(TypeQLUndefine query, TypeDBOptions options);
+
+        CompletableFuture<Void> undefine(String query);
+
+        CompletableFuture<Void> undefine(String query, TypeDBOptions options);
+    }
+
+    interface Reactive {
+
+        @CheckReturnValue
+        Flow.Publisher<ConceptMap> match(TypeQLMatch query);
+
+        @CheckReturnValue
+        Flow.Publisher<ConceptMap> match(TypeQLMatch query, TypeDBOptions options);
+
+        @CheckReturnValue
+        Flow.Publisher<ConceptMap> match(String query);
+
+        @CheckReturnValue
+        Flow.Publisher<ConceptMap> match(String query, TypeDBOptions options);
+
+        @CheckReturnValue
+        Flow.Publisher<ConceptMap> insert(TypeQLInsert query);
+
+        @CheckReturnValue
+        Flow.Publisher<ConceptMap> insert(TypeQLInsert query, TypeDBOptions options);
+
+        @CheckReturnValue
+        Flow.Publisher<ConceptMap> insert(String query);
+
+        @CheckReturnValue
+        Flow.Publisher<ConceptMap> insert(String query, TypeDBOptions options);
+
+        @CheckReturnValue
+        Flow.Publisher<ConceptMap> update(TypeQLUpdate query);
+
+        @CheckReturnValue
+        Flow.Publisher<ConceptMap> update(TypeQLUpdate query, TypeDBOptions options);
+
+        @CheckReturnValue
+        Flow.Publisher<ConceptMap> update(String query);
+
+        @CheckReturnValue
+        Flow.Publisher<ConceptMap> update(String query, TypeDBOptions options);
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.api.query;
+
+import com.vaticle.typedb.client.common.IID;
+import com.vaticle.typedb.client.common.Label;
+
+import javax.annotation.CheckReturnValue;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    T map(Row row);
+
+    // A row is read straight from the wire answer; it is only valid for the duration of RowMapper.map()
+    interface Row {
+
+        @CheckReturnValue
+        List<String> variables();
+
+        // the position of a variable is shared by every row of the stream with the same variables; -1 if absent
+        @CheckReturnValue
+        int index(String variable);
+
+        @CheckReturnValue
+        boolean getBoolean(String variable);
+
+        @CheckReturnValue
+        boolean getBoolean(int index);
+
+        @CheckReturnValue
+        long getLong(String variable);
+
+        @CheckReturnValue
+        long getLong(int index);
+
+        @CheckReturnValue
+        double getDouble(String variable);
+
+        @CheckReturnValue
+        double getDouble(int index);
+
+        @CheckReturnValue
+        String getString(String variable);
+
+        @CheckReturnValue
+        String getString(int index);
+
+        @CheckReturnValue
+        LocalDateTime getDateTime(String variable);
+
+        @CheckReturnValue
+        LocalDateTime getDateTime(int index);
+
+        @CheckReturnValue
+        IID getIID(String variable);
+
+        @CheckReturnValue
+        IID getIID(int index);
+
+        // the label of a thing's type, or of the concept itself when it is a type
+        @CheckReturnValue
+        Label getTypeLabel(String variable);
+
+        @CheckReturnValue
+        Label getTypeLabel(int index);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.common;
+
+import com.google.protobuf.ByteString;
+
+import static com.vaticle.typedb.common.collection.Bytes.bytesToHexString;
+import static com.vaticle.typedb.common.collection.Bytes.hexStringToBytes;
+
+public class IID {
+
+    private final ByteString bytes;
+    private volatile String hex;
+
+    private IID(ByteString bytes, String hex) {
+        this.bytes = bytes;
+        this.hex = hex;
+    }
+
+    public static IID of(ByteString bytes) {
+        return new IID(bytes, null);
+    }
+
+    public static IID of(String hex) {
+        return new IID(ByteString.copyFrom(hexStringToBytes(hex)), hex);
+    }
+
+    public ByteString bytes() {
+        return bytes;
+    }
+
+    public boolean isEmpty() {
+        return bytes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        String hex = this.hex;
+        if (hex == null) {
+            // racing threads compute the same string, so the write needs no coordination
+            hex = bytesToHexString(bytes.toByteArray());
+            this.hex = hex;
+        }
+        return hex;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        IID that = (IID) o;
+        return this.bytes.equals(that.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return bytes.hashCode();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.common.collection;
+
+import java.util.function.Consumer;
+
+public class ConcurrentLongMap<V> {
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    private final Segment<V>[] segments;
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongMap() {
+        segments = new Segment[1 << SEGMENT_BITS];
+        for (int i = 0; i < segments.length; i++) segments[i] = new Segment<>();
+    }
+
+    private static long hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    private Segment<V> segment(long hash) {
+        return segments[(int) (hash >>> (Long.SIZE - SEGMENT_BITS))];
+    }
+
+    public V get(long key) {
+        long hash = hash(key);
+        return segment(hash).get(key, hash);
+    }
+
+    public V put(long key, V value) {
+        long hash = hash(key);
+        return segment(hash).put(key, hash, value);
+    }
+
+    public V remove(long key) {
+        long hash = hash(key);
+        return segment(hash).remove(key, hash);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) size += segment.size();
+        return size;
+    }
+
+    public void forEachValue(Consumer<V> consumer) {
+        for (Segment<V> segment : segments) segment.forEachValue(consumer);
+    }
+
+    // An open-addressing table with linear probing; removal shifts later entries back, so no tombstones are needed.
+    private static class Segment<V> {
+
+        private long[] keys;
+        private Object[] values;
+        private int size;
+
+        private Segment() {
+            allocate(INITIAL_SEGMENT_CAPACITY);
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            values = new Object[capacity];
+        }
+
+        private int mask() {
+            return keys.length - 1;
+        }
+
+        private int index(long key, long hash) {
+            int i = (int) hash & mask();
+            while (values[i] != null) {
+                if (keys[i] == key) return i;
+                i = (i + 1) & mask();
+            }
+            return -1;
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        private synchronized V get(long key, long hash) {
+            int i = index(key, hash);
+            return i < 0 ? null : (V) values[i];
+        }
+
+        @SuppressWarnings("unchecked")
+        private synchronized V put(long key, long hash, V value) {
+            int i = (int) hash & mask();
+            while (values[i] != null) {
+                if (keys[i] == key) {
+                    V previous = (V) values[i];
+                    values[i] = value;
+                    return previous;
+                }
+                i = (i + 1) & mask();
+            }
+            keys[i] = key;
+            values[i] = value;
+            size++;
+            if (size * 2 > keys.length) resize(keys.length * 2);
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private synchronized V remove(long key, long hash) {
+            int i = index(key, hash);
+            if (i < 0) return null;
+            V previous = (V) values[i];
+            int j = i;
+            while (true) {
+                j = (j + 1) & mask();
+                if (values[j] == null) break;
+                int home = (int) hash(keys[j]) & mask();
+                boolean movable = i <= j ? (home <= i || home > j) : (home <= i && home > j);
+                if (movable) {
+                    keys[i] = keys[j];
+                    values[i] = values[j];
+                    i = j;
+                }
+            }
+            values[i] = null;
+            size--;
+            if (keys.length > INITIAL_SEGMENT_CAPACITY && size * 8 < keys.length) resize(keys.length / 2);
+            return previous;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            allocate(capacity);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] == null) continue;
+                int j = (int) hash(oldKeys[i]) & mask();
+                while (values[j] != null) j = (j + 1) & mask();
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private synchronized void forEachValue(Consumer<V> consumer) {
+            for (Object value : values) {
+                if (value != null) consumer.accept((V) value);
+            }
+        }
+    }
+}
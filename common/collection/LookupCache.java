@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.common.collection;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// A read-through cache that also remembers absent keys; loads that overlap an invalidation are not kept
+public class LookupCache<K, V> {
+
+    private static final Object ABSENT = new Object();
+
+    private final ConcurrentHashMap<K, Object> entries;
+    private final AtomicLong generation;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+
+    public LookupCache() {
+        entries = new ConcurrentHashMap<>();
+        generation = new AtomicLong();
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(K key, Function<K, V> loader) {
+        Object cached = entries.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached == ABSENT ? null : (V) cached;
+        }
+        misses.incrementAndGet();
+        long loadedAt = generation.get();
+        V value = loader.apply(key);
+        Object entry = value == null ? ABSENT : value;
+        if (generation.get() == loadedAt) {
+            entries.put(key, entry);
+            if (generation.get() != loadedAt) entries.remove(key, entry);
+        }
+        return value;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+}
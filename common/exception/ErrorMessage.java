@@ -66,6 +66,18 @@ public abstract class ErrorMessage extends com.vaticle.typedb.common.exception.E
                 new Client(18, "Invalid token credential.");
         public static final ErrorMessage CLUSTER_PASSWORD_CREDENTIAL_EXPIRED =
                 new Client(19, "Expired password credential.");
+        public static final Client VIRTUAL_THREADS_UNSUPPORTED =
+                new Client(20, "Virtual threads are not supported by the running Java version '%s'.");
+        public static final Client TRANSACTION_POOL_CLOSED =
+                new Client(21, "The transaction pool has been closed and no further operation is allowed.");
+        public static final Client SESSION_POOL_CLOSED =
+                new Client(22, "The session pool has been closed and no further operation is allowed.");
+        public static final Client INVALID_POOL_SIZE =
+                new Client(23, "The minimum pool size '%d' must be between 0 and the maximum pool size '%d'.");
+        public static final Client PUBLISHER_ALREADY_SUBSCRIBED =
+                new Client(24, "The query publisher has already been subscribed to, and sends its query only once.");
+        public static final Client INVALID_TRANSACTION_POOL_SIZE =
+                new Client(25, "The transaction pool size must be at least 1, was: '%d'.");
 
         private static final String codePrefix = "CLI";
         private static final String messagePrefix = "Client Error";
@@ -116,6 +128,8 @@ public abstract class ErrorMessage extends com.vaticle.typedb.common.exception.E
                 new Query(3, "The answer type '%s' was not recognised.");
         public static final Query MISSING_ANSWER =
                 new Query(4, "The required field 'answer' of type '%s' was not set.");
+        public static final Query BAD_ROW_CONVERSION =
+                new Query(5, "The variable '%s' cannot be read as '%s'.");
 
         private static final String codePrefix = "QRY";
         private static final String messagePrefix = "Query Error";
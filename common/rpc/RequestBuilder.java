@@ -23,6 +23,7 @@ package com.vaticle.typedb.client.common.rpc;
 
 import com.google.protobuf.ByteString;
 import com.vaticle.factory.tracing.client.FactoryTracingThreadStatic;
+import com.vaticle.typedb.client.common.IID;
 import com.vaticle.typedb.client.common.Label;
 import com.vaticle.typedb.protocol.ClusterDatabaseProto;
 import com.vaticle.typedb.protocol.ClusterServerProto;
@@ -49,8 +50,6 @@ import static com.google.protobuf.ByteString.copyFrom;
 import static com.vaticle.factory.tracing.client.FactoryTracingThreadStatic.currentThreadTrace;
 import static com.vaticle.factory.tracing.client.FactoryTracingThreadStatic.isTracingEnabled;
 import static com.vaticle.typedb.client.common.collection.Bytes.uuidToBytes;
-import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Thing.byteString;
-import static com.vaticle.typedb.common.collection.Bytes.hexStringToBytes;
 import static java.util.Collections.emptyMap;
 
 public class RequestBuilder {
@@ -208,8 +207,8 @@ public class RequestBuilder {
             return TransactionProto.Transaction.Client.newBuilder().addAllReqs(reqs).build();
         }
 
-        public static TransactionProto.Transaction.Req streamReq(UUID reqID) {
-            return TransactionProto.Transaction.Req.newBuilder().setReqId(UUIDAsByteString(reqID)).setStreamReq(
+        public static TransactionProto.Transaction.Req streamReq(ByteString reqID) {
+            return TransactionProto.Transaction.Req.newBuilder().setReqId(reqID).setStreamReq(
                     TransactionProto.Transaction.Stream.Req.getDefaultInstance()
             ).build();
         }
@@ -337,9 +336,9 @@ public class RequestBuilder {
             ));
         }
 
-        public static TransactionProto.Transaction.Req.Builder getThingReq(String iid) {
+        public static TransactionProto.Transaction.Req.Builder getThingReq(IID iid) {
             return conceptManagerReq(ConceptProto.ConceptManager.Req.newBuilder().setGetThingReq(
-                    ConceptProto.ConceptManager.GetThing.Req.newBuilder().setIid(byteString(iid))
+                    ConceptProto.ConceptManager.GetThing.Req.newBuilder().setIid(iid.bytes())
             ));
         }
 
@@ -749,12 +748,8 @@ public class RequestBuilder {
 
     public static class Thing {
 
-        static ByteString byteString(String iid) {
-            return ByteString.copyFrom(hexStringToBytes(iid));
-        }
-
-        public static ConceptProto.Thing protoThing(String iid) {
-            return ConceptProto.Thing.newBuilder().setIid(byteString(iid)).build();
+        public static ConceptProto.Thing protoThing(IID iid) {
+            return ConceptProto.Thing.newBuilder().setIid(iid.bytes()).build();
         }
 
         private static TransactionProto.Transaction.Req.Builder thingReq(ConceptProto.Thing.Req.Builder req) {
@@ -762,45 +757,45 @@ public class RequestBuilder {
         }
 
         public static TransactionProto.Transaction.Req.Builder getHasReq(
-                String iid, List<ConceptProto.Type> attributeTypes) {
-            return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(byteString(iid)).setThingGetHasReq(
+                IID iid, List<ConceptProto.Type> attributeTypes) {
+            return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setThingGetHasReq(
                     ConceptProto.Thing.GetHas.Req.newBuilder().addAllAttributeTypes(attributeTypes)
             ));
         }
 
-        public static TransactionProto.Transaction.Req.Builder getHasReq(String iid, Set<ConceptProto.Type.Annotation> annotations) {
-            return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(byteString(iid)).setThingGetHasReq(
+        public static TransactionProto.Transaction.Req.Builder getHasReq(IID iid, Set<ConceptProto.Type.Annotation> annotations) {
+            return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setThingGetHasReq(
                     ConceptProto.Thing.GetHas.Req.newBuilder().addAllAnnotations(annotations)
             ));
         }
 
-        public static TransactionProto.Transaction.Req.Builder setHasReq(String iid, ConceptProto.Thing attribute) {
-            return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(byteString(iid)).setThingSetHasReq(
+        public static TransactionProto.Transaction.Req.Builder setHasReq(IID iid, ConceptProto.Thing attribute) {
+            return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setThingSetHasReq(
                     ConceptProto.Thing.SetHas.Req.newBuilder().setAttribute(attribute)
             ));
         }
 
-        public static TransactionProto.Transaction.Req.Builder unsetHasReq(String iid, ConceptProto.Thing attribute) {
-            return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(byteString(iid)).setThingUnsetHasReq(
+        public static TransactionProto.Transaction.Req.Builder unsetHasReq(IID iid, ConceptProto.Thing attribute) {
+            return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setThingUnsetHasReq(
                     ConceptProto.Thing.UnsetHas.Req.newBuilder().setAttribute(attribute)
             ));
         }
 
-        public static TransactionProto.Transaction.Req.Builder getPlayingReq(String iid) {
-            return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(byteString(iid)).setThingGetPlayingReq(
+        public static TransactionProto.Transaction.Req.Builder getPlayingReq(IID iid) {
+            return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setThingGetPlayingReq(
                     ConceptProto.Thing.GetPlaying.Req.getDefaultInstance()
             ));
         }
 
         public static TransactionProto.Transaction.Req.Builder getRelationsReq(
-                String iid, List<ConceptProto.Type> roleTypes) {
-            return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(byteString(iid)).setThingGetRelationsReq(
+                IID iid, List<ConceptProto.Type> roleTypes) {
+            return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setThingGetRelationsReq(
                     ConceptProto.Thing.GetRelations.Req.newBuilder().addAllRoleTypes(roleTypes)
             ));
         }
 
-        public static TransactionProto.Transaction.Req.Builder deleteReq(String iid) {
-            return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(byteString(iid)).setThingDeleteReq(
+        public static TransactionProto.Transaction.Req.Builder deleteReq(IID iid) {
+            return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setThingDeleteReq(
                     ConceptProto.Thing.Delete.Req.getDefaultInstance()
             ));
         }
@@ -808,34 +803,34 @@ public class RequestBuilder {
         public static class Relation {
 
             public static TransactionProto.Transaction.Req.Builder addPlayerReq(
-                    String iid, ConceptProto.Type roleType, ConceptProto.Thing player) {
-                return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(byteString(iid)).setRelationAddPlayerReq(
+                    IID iid, ConceptProto.Type roleType, ConceptProto.Thing player) {
+                return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setRelationAddPlayerReq(
                         ConceptProto.Relation.AddPlayer.Req.newBuilder().setRoleType(roleType).setPlayer(player)
                 ));
             }
 
             public static TransactionProto.Transaction.Req.Builder removePlayerReq(
-                    String iid, ConceptProto.Type roleType, ConceptProto.Thing player) {
-                return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(byteString(iid)).setRelationRemovePlayerReq(
+                    IID iid, ConceptProto.Type roleType, ConceptProto.Thing player) {
+                return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setRelationRemovePlayerReq(
                         ConceptProto.Relation.RemovePlayer.Req.newBuilder().setRoleType(roleType).setPlayer(player)
                 ));
             }
 
             public static TransactionProto.Transaction.Req.Builder getPlayersReq(
-                    String iid, List<ConceptProto.Type> roleTypes) {
-                return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(byteString(iid)).setRelationGetPlayersReq(
+                    IID iid, List<ConceptProto.Type> roleTypes) {
+                return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setRelationGetPlayersReq(
                         ConceptProto.Relation.GetPlayers.Req.newBuilder().addAllRoleTypes(roleTypes)
                 ));
             }
 
-            public static TransactionProto.Transaction.Req.Builder getPlayersByRoleTypeReq(String iid) {
-                return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(byteString(iid)).setRelationGetPlayersByRoleTypeReq(
+            public static TransactionProto.Transaction.Req.Builder getPlayersByRoleTypeReq(IID iid) {
+                return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setRelationGetPlayersByRoleTypeReq(
                         ConceptProto.Relation.GetPlayersByRoleType.Req.getDefaultInstance()
                 ));
             }
 
-            public static TransactionProto.Transaction.Req.Builder getRelatingReq(String iid) {
-                return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(byteString(iid)).setRelationGetRelatingReq(
+            public static TransactionProto.Transaction.Req.Builder getRelatingReq(IID iid) {
+                return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setRelationGetRelatingReq(
                         ConceptProto.Relation.GetRelating.Req.getDefaultInstance()
                 ));
             }
@@ -843,14 +838,14 @@ public class RequestBuilder {
 
         public static class Attribute {
 
-            public static TransactionProto.Transaction.Req.Builder getOwnersReq(String iid) {
-                return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(byteString(iid)).setAttributeGetOwnersReq(
+            public static TransactionProto.Transaction.Req.Builder getOwnersReq(IID iid) {
+                return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setAttributeGetOwnersReq(
                         ConceptProto.Attribute.GetOwners.Req.getDefaultInstance()
                 ));
             }
 
-            public static TransactionProto.Transaction.Req.Builder getOwnersReq(String iid, ConceptProto.Type ownerType) {
-                return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(byteString(iid)).setAttributeGetOwnersReq(
+            public static TransactionProto.Transaction.Req.Builder getOwnersReq(IID iid, ConceptProto.Type ownerType) {
+                return thingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setAttributeGetOwnersReq(
                         ConceptProto.Attribute.GetOwners.Req.newBuilder().setThingType(ownerType)
                 ));
             }
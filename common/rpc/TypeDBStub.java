@@ -32,6 +32,7 @@ import io.grpc.ManagedChannel;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 public abstract class TypeDBStub {
@@ -80,6 +81,14 @@ public abstract class TypeDBStub {
         return resilientCall(() -> blockingStub().sessionPulse(request));
     }
 
+    public CompletableFuture<SessionProto.Session.Pulse.Res> sessionPulseAsync(SessionProto.Session.Pulse.Req request) {
+        return resilientCall(() -> {
+            CompletableFuture<SessionProto.Session.Pulse.Res> future = new CompletableFuture<>();
+            asyncStub().sessionPulse(request, new UnaryObserver<>(future));
+            return future;
+        });
+    }
+
     public StreamObserver<TransactionProto.Transaction.Client> transaction(StreamObserver<TransactionProto.Transaction.Server> responseObserver) {
         return resilientCall(() -> asyncStub().transaction(responseObserver));
     }
@@ -90,6 +99,33 @@ public abstract class TypeDBStub {
 
     protected abstract TypeDBGrpc.TypeDBStub asyncStub();
 
+    protected static class UnaryObserver<RES> implements StreamObserver<RES> {
+
+        private final CompletableFuture<RES> future;
+
+        protected UnaryObserver(CompletableFuture<RES> future) {
+            this.future = future;
+        }
+
+        @Override
+        public void onNext(RES res) {
+            future.complete(res);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            if (error instanceof StatusRuntimeException) {
+                future.completeExceptionally(TypeDBClientException.of((StatusRuntimeException) error));
+            } else {
+                future.completeExceptionally(error);
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+
     protected <RES> RES resilientCall(Supplier<RES> function) {
         try {
             ensureConnected();
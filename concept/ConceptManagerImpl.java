@@ -23,11 +23,14 @@ package com.vaticle.typedb.client.concept;
 
 import com.vaticle.typedb.client.api.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.ConceptManager;
+import com.vaticle.typedb.client.api.concept.SchemaSnapshot;
 import com.vaticle.typedb.client.api.concept.thing.Thing;
 import com.vaticle.typedb.client.api.concept.type.AttributeType;
 import com.vaticle.typedb.client.api.concept.type.EntityType;
 import com.vaticle.typedb.client.api.concept.type.RelationType;
 import com.vaticle.typedb.client.api.concept.type.ThingType;
+import com.vaticle.typedb.client.common.IID;
+import com.vaticle.typedb.client.common.collection.LookupCache;
 import com.vaticle.typedb.client.common.exception.TypeDBException;
 import com.vaticle.typedb.client.concept.thing.ThingImpl;
 import com.vaticle.typedb.client.concept.type.AttributeTypeImpl;
@@ -39,6 +42,7 @@ import com.vaticle.typedb.protocol.TransactionProto;
 import com.vaticle.typeql.lang.common.TypeQLToken;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nullable;
 
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.ConceptManager.getSchemaExceptionsReq;
@@ -52,9 +56,13 @@ import static java.util.stream.Collectors.toList;
 public final class ConceptManagerImpl implements ConceptManager {
 
     private final TypeDBTransaction.Extended transactionExt;
+    private final ConceptManager.Async async;
+    private final LookupCache<String, ThingType> typeCache;
 
     public ConceptManagerImpl(TypeDBTransaction.Extended transactionExt) {
         this.transactionExt = transactionExt;
+        this.async = new Async();
+        this.typeCache = new LookupCache<>();
     }
 
     @Override
@@ -79,48 +87,107 @@ public final class ConceptManagerImpl implements ConceptManager {
 
     @Override
     public EntityType putEntityType(String label) {
-        return EntityTypeImpl.of(execute(putEntityTypeReq(label)).getPutEntityTypeRes().getEntityType());
+        return putEntityTypeRes(execute(putEntityTypeReq(label)));
     }
 
     @Override
     @Nullable
     public EntityType getEntityType(String label) {
-        ThingType thingType = getThingType(label);
-        if (thingType != null && thingType.isEntityType()) return thingType.asEntityType();
-        else return null;
+        return asEntityType(getThingType(label));
     }
 
     @Override
     public RelationType putRelationType(String label) {
-        return RelationTypeImpl.of(execute(putRelationTypeReq(label)).getPutRelationTypeRes().getRelationType());
+        return putRelationTypeRes(execute(putRelationTypeReq(label)));
     }
 
     @Override
     @Nullable
     public RelationType getRelationType(String label) {
-        ThingType thingType = getThingType(label);
-        if (thingType != null && thingType.isRelationType()) return thingType.asRelationType();
-        else return null;
+        return asRelationType(getThingType(label));
     }
 
     @Override
     public AttributeType putAttributeType(String label, AttributeType.ValueType valueType) {
-        ConceptProto.ConceptManager.Res res = execute(putAttributeTypeReq(label, valueType.proto()));
-        return AttributeTypeImpl.of(res.getPutAttributeTypeRes().getAttributeType());
+        return putAttributeTypeRes(execute(putAttributeTypeReq(label, valueType.proto())));
     }
 
     @Override
     @Nullable
     public AttributeType getAttributeType(String label) {
-        ThingType thingType = getThingType(label);
-        if (thingType != null && thingType.isAttributeType()) return thingType.asAttributeType();
-        else return null;
+        return asAttributeType(getThingType(label));
     }
 
     @Override
     @Nullable
     public ThingType getThingType(String label) {
-        ConceptProto.ConceptManager.GetThingType.Res res = execute(getThingTypeReq(label)).getGetThingTypeRes();
+        return typeCache.get(label, l -> getThingTypeRes(execute(getThingTypeReq(l))));
+    }
+
+    @Override
+    @Nullable
+    public Thing getThing(String iid) {
+        return getThing(IID.of(iid));
+    }
+
+    @Override
+    @Nullable
+    public Thing getThing(IID iid) {
+        return getThingRes(execute(getThingReq(iid)));
+    }
+
+    @Override
+    public List<TypeDBException> getSchemaExceptions() {
+        return getSchemaExceptionsRes(execute(getSchemaExceptionsReq()));
+    }
+
+    @Override
+    public long cacheHits() {
+        return typeCache.hits();
+    }
+
+    @Override
+    public long cacheMisses() {
+        return typeCache.misses();
+    }
+
+    public void invalidateCache() {
+        typeCache.invalidate();
+    }
+
+    @Override
+    public SchemaSnapshot schemaSnapshot() {
+        return SchemaSnapshotImpl.load(transactionExt);
+    }
+
+    @Override
+    public ConceptManager.Async async() {
+        return async;
+    }
+
+    private ConceptProto.ConceptManager.Res execute(TransactionProto.Transaction.Req.Builder req) {
+        return transactionExt.execute(req).getConceptManagerRes();
+    }
+
+    private CompletableFuture<ConceptProto.ConceptManager.Res> executeAsync(TransactionProto.Transaction.Req.Builder req) {
+        return transactionExt.queryAsync(req).thenApply(TransactionProto.Transaction.Res::getConceptManagerRes);
+    }
+
+    private static EntityType putEntityTypeRes(ConceptProto.ConceptManager.Res res) {
+        return EntityTypeImpl.of(res.getPutEntityTypeRes().getEntityType());
+    }
+
+    private static RelationType putRelationTypeRes(ConceptProto.ConceptManager.Res res) {
+        return RelationTypeImpl.of(res.getPutRelationTypeRes().getRelationType());
+    }
+
+    private static AttributeType putAttributeTypeRes(ConceptProto.ConceptManager.Res res) {
+        return AttributeTypeImpl.of(res.getPutAttributeTypeRes().getAttributeType());
+    }
+
+    @Nullable
+    private static ThingType getThingTypeRes(ConceptProto.ConceptManager.Res conceptManagerRes) {
+        ConceptProto.ConceptManager.GetThingType.Res res = conceptManagerRes.getGetThingTypeRes();
         switch (res.getResCase()) {
             case THING_TYPE:
                 return ThingTypeImpl.of(res.getThingType());
@@ -130,10 +197,9 @@ public final class ConceptManagerImpl implements ConceptManager {
         }
     }
 
-    @Override
     @Nullable
-    public Thing getThing(String iid) {
-        ConceptProto.ConceptManager.GetThing.Res res = execute(getThingReq(iid)).getGetThingRes();
+    private static Thing getThingRes(ConceptProto.ConceptManager.Res conceptManagerRes) {
+        ConceptProto.ConceptManager.GetThing.Res res = conceptManagerRes.getGetThingRes();
         switch (res.getResCase()) {
             case THING:
                 return ThingImpl.of(res.getThing());
@@ -143,13 +209,100 @@ public final class ConceptManagerImpl implements ConceptManager {
         }
     }
 
-    @Override
-    public List<TypeDBException> getSchemaExceptions() {
-        return execute(getSchemaExceptionsReq()).getGetSchemaExceptionsRes().getExceptionsList().stream()
+    private static List<TypeDBException> getSchemaExceptionsRes(ConceptProto.ConceptManager.Res res) {
+        return res.getGetSchemaExceptionsRes().getExceptionsList().stream()
                 .map(e -> new TypeDBException(e.getCode(), e.getMessage())).collect(toList());
     }
 
-    private ConceptProto.ConceptManager.Res execute(TransactionProto.Transaction.Req.Builder req) {
-        return transactionExt.execute(req).getConceptManagerRes();
+    @Nullable
+    private static EntityType asEntityType(@Nullable ThingType thingType) {
+        if (thingType != null && thingType.isEntityType()) return thingType.asEntityType();
+        else return null;
+    }
+
+    @Nullable
+    private static RelationType asRelationType(@Nullable ThingType thingType) {
+        if (thingType != null && thingType.isRelationType()) return thingType.asRelationType();
+        else return null;
+    }
+
+    @Nullable
+    private static AttributeType asAttributeType(@Nullable ThingType thingType) {
+        if (thingType != null && thingType.isAttributeType()) return thingType.asAttributeType();
+        else return null;
+    }
+
+    private final class Async implements ConceptManager.Async {
+
+        @Override
+        public CompletableFuture<ThingType> getRootThingType() {
+            return getThingType(TypeQLToken.Type.THING.toString());
+        }
+
+        @Override
+        public CompletableFuture<EntityType> getRootEntityType() {
+            return getEntityType(TypeQLToken.Type.ENTITY.toString());
+        }
+
+        @Override
+        public CompletableFuture<RelationType> getRootRelationType() {
+            return getRelationType(TypeQLToken.Type.RELATION.toString());
+        }
+
+        @Override
+        public CompletableFuture<AttributeType> getRootAttributeType() {
+            return getAttributeType(TypeQLToken.Type.ATTRIBUTE.toString());
+        }
+
+        @Override
+        public CompletableFuture<ThingType> getThingType(String label) {
+            return executeAsync(getThingTypeReq(label)).thenApply(ConceptManagerImpl::getThingTypeRes);
+        }
+
+        @Override
+        public CompletableFuture<Thing> getThing(String iid) {
+            return getThing(IID.of(iid));
+        }
+
+        @Override
+        public CompletableFuture<Thing> getThing(IID iid) {
+            return executeAsync(getThingReq(iid)).thenApply(ConceptManagerImpl::getThingRes);
+        }
+
+        @Override
+        public CompletableFuture<EntityType> getEntityType(String label) {
+            return getThingType(label).thenApply(ConceptManagerImpl::asEntityType);
+        }
+
+        @Override
+        public CompletableFuture<EntityType> putEntityType(String label) {
+            return executeAsync(putEntityTypeReq(label)).thenApply(ConceptManagerImpl::putEntityTypeRes);
+        }
+
+        @Override
+        public CompletableFuture<RelationType> getRelationType(String label) {
+            return getThingType(label).thenApply(ConceptManagerImpl::asRelationType);
+        }
+
+        @Override
+        public CompletableFuture<RelationType> putRelationType(String label) {
+            return executeAsync(putRelationTypeReq(label)).thenApply(ConceptManagerImpl::putRelationTypeRes);
+        }
+
+        @Override
+        public CompletableFuture<AttributeType> getAttributeType(String label) {
+            return getThingType(label).thenApply(ConceptManagerImpl::asAttributeType);
+        }
+
+        @Override
+        public CompletableFuture<AttributeType> putAttributeType(String label, AttributeType.ValueType valueType) {
+            return executeAsync(putAttributeTypeReq(label, valueType.proto()))
+                    .thenApply(ConceptManagerImpl::putAttributeTypeRes);
+        }
+
+        @Override
+        public CompletableFuture<List<TypeDBException>> getSchemaExceptions() {
+            return executeAsync(getSchemaExceptionsReq()).thenApply(ConceptManagerImpl::getSchemaExceptionsRes);
+        }
     }
 }
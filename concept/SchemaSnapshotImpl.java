@@ -0,0 +1,412 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.concept;
+
+import com.vaticle.typedb.client.api.TypeDBTransaction;
+import com.vaticle.typedb.client.api.concept.SchemaSnapshot;
+import com.vaticle.typedb.client.api.concept.type.AttributeType;
+import com.vaticle.typedb.client.api.concept.type.RelationType;
+import com.vaticle.typedb.client.api.concept.type.RoleType;
+import com.vaticle.typedb.client.api.concept.type.ThingType;
+import com.vaticle.typedb.client.api.concept.type.Type;
+import com.vaticle.typedb.client.common.Label;
+import com.vaticle.typedb.client.concept.type.RoleTypeImpl;
+import com.vaticle.typedb.client.concept.type.ThingTypeImpl;
+import com.vaticle.typedb.protocol.ConceptProto;
+import com.vaticle.typedb.protocol.TransactionProto;
+import com.vaticle.typeql.lang.common.TypeQLToken;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.RelationType.getRelatesExplicitReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.RelationType.getRelatesOverriddenReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.ThingType.getOwnsExplicitReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.ThingType.getOwnsOverriddenReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.ThingType.getPlaysExplicitReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.ThingType.getPlaysOverriddenReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.getSubtypesExplicitReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.getSubtypesReq;
+import static com.vaticle.typedb.client.concept.type.RoleTypeImpl.protoRoleType;
+import static com.vaticle.typedb.client.concept.type.ThingTypeImpl.protoThingType;
+import static com.vaticle.typedb.client.concept.type.TypeImpl.protoAnnotations;
+import static com.vaticle.typeql.lang.common.TypeQLToken.Annotation.KEY;
+import static com.vaticle.typeql.lang.common.TypeQLToken.Annotation.UNIQUE;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.stream.Collectors.toList;
+
+public final class SchemaSnapshotImpl implements SchemaSnapshot {
+
+    private static final Label ROOT_THING_TYPE = Label.of(TypeQLToken.Type.THING.toString());
+    private static final Label ROOT_ROLE_TYPE = Label.of(TypeQLToken.Type.RELATION.toString(), TypeQLToken.Type.ROLE.toString());
+
+    private final Map<Label, ThingType> thingTypes;
+    private final Map<Label, RoleType> roleTypes;
+    private final Map<Label, Type> supertypes;
+    private final Map<Label, List<Type>> subtypesExplicit;
+    private final Map<Label, Map<Label, Set<TypeQLToken.Annotation>>> ownsExplicit;
+    private final Map<Label, List<RoleType>> playsExplicit;
+    private final Map<Label, List<RoleType>> relatesExplicit;
+    private final Map<Label, Map<Label, Label>> ownsOverridden;
+    private final Map<Label, Map<Label, Label>> playsOverridden;
+    private final Map<Label, Map<Label, Label>> relatesOverridden;
+    private final Map<Label, Map<Label, Set<TypeQLToken.Annotation>>> owns;
+    private final Map<Label, Set<Label>> plays;
+    private final Map<Label, Set<Label>> relates;
+    private final Map<Label, List<ThingType>> owners;
+    private final Map<Label, List<ThingType>> players;
+
+    private SchemaSnapshotImpl(Map<Label, ThingType> thingTypes, Map<Label, RoleType> roleTypes,
+                               Map<Label, List<Type>> subtypesExplicit,
+                               Map<Label, Map<Label, Set<TypeQLToken.Annotation>>> ownsExplicit,
+                               Map<Label, List<RoleType>> playsExplicit, Map<Label, List<RoleType>> relatesExplicit,
+                               Map<Label, Map<Label, Label>> ownsOverridden, Map<Label, Map<Label, Label>> playsOverridden,
+                               Map<Label, Map<Label, Label>> relatesOverridden) {
+        this.thingTypes = thingTypes;
+        this.roleTypes = roleTypes;
+        this.subtypesExplicit = subtypesExplicit;
+        this.ownsExplicit = ownsExplicit;
+        this.playsExplicit = playsExplicit;
+        this.relatesExplicit = relatesExplicit;
+        this.ownsOverridden = ownsOverridden;
+        this.playsOverridden = playsOverridden;
+        this.relatesOverridden = relatesOverridden;
+        this.supertypes = new HashMap<>();
+        subtypesExplicit.forEach((label, subtypes) -> subtypes.forEach(subtype -> supertypes.put(subtype.getLabel(), type(label))));
+        this.owns = new HashMap<>();
+        this.plays = new HashMap<>();
+        this.relates = new HashMap<>();
+        this.owners = new HashMap<>();
+        this.players = new HashMap<>();
+        for (ThingType type : thingTypes.values()) {
+            Map<Label, Set<TypeQLToken.Annotation>> typeOwns = new LinkedHashMap<>();
+            Set<Label> typePlays = new LinkedHashSet<>();
+            Set<Label> typeRelates = new LinkedHashSet<>();
+            Set<Label> hiddenOwns = new HashSet<>();
+            Set<Label> hiddenPlays = new HashSet<>();
+            Set<Label> hiddenRelates = new HashSet<>();
+            // inherited edges are the explicit edges of every supertype, nearest first, except those that a nearer
+            // type overrides
+            for (Type supertype = type; supertype != null; supertype = supertypes.get(supertype.getLabel())) {
+                Label label = supertype.getLabel();
+                ownsExplicit.getOrDefault(label, emptyMap()).forEach((attribute, annotations) -> {
+                    if (!hiddenOwns.contains(attribute)) typeOwns.putIfAbsent(attribute, annotations);
+                });
+                playsExplicit.getOrDefault(label, emptyList()).forEach(role -> {
+                    if (!hiddenPlays.contains(role.getLabel())) typePlays.add(role.getLabel());
+                });
+                relatesExplicit.getOrDefault(label, emptyList()).forEach(role -> {
+                    if (!hiddenRelates.contains(role.getLabel())) typeRelates.add(role.getLabel());
+                });
+                hiddenOwns.addAll(ownsOverridden.getOrDefault(label, emptyMap()).values());
+                hiddenPlays.addAll(playsOverridden.getOrDefault(label, emptyMap()).values());
+                hiddenRelates.addAll(relatesOverridden.getOrDefault(label, emptyMap()).values());
+            }
+            owns.put(type.getLabel(), typeOwns);
+            plays.put(type.getLabel(), typePlays);
+            relates.put(type.getLabel(), typeRelates);
+            typeOwns.keySet().forEach(attribute -> owners.computeIfAbsent(attribute, l -> new ArrayList<>()).add(type));
+            typePlays.forEach(role -> players.computeIfAbsent(role, l -> new ArrayList<>()).add(type));
+        }
+    }
+
+    // Three waves of pipelined requests: one listing every type, one carrying the explicit edges of all types at once,
+    // and one asking what each explicit edge overrides. Requests are dispatched as soon as their streams or futures
+    // are created, so no response is awaited within a wave
+    static SchemaSnapshotImpl load(TypeDBTransaction.Extended transactionExt) {
+        Stream<ConceptProto.Type> thingTypeProtos = types(transactionExt, getSubtypesReq(ROOT_THING_TYPE),
+                ConceptProto.Type.ResPart::getTypeGetSubtypesResPart, ConceptProto.Type.GetSubtypes.ResPart::getTypesList);
+        Stream<ConceptProto.Type> roleTypeProtos = types(transactionExt, getSubtypesReq(ROOT_ROLE_TYPE),
+                ConceptProto.Type.ResPart::getTypeGetSubtypesResPart, ConceptProto.Type.GetSubtypes.ResPart::getTypesList);
+        Map<Label, ThingType> thingTypes = new LinkedHashMap<>();
+        thingTypeProtos.map(ThingTypeImpl::of).forEach(type -> thingTypes.put(type.getLabel(), type));
+        Map<Label, RoleType> roleTypes = new LinkedHashMap<>();
+        roleTypeProtos.map(RoleTypeImpl::of).forEach(type -> roleTypes.put(type.getLabel(), type));
+
+        Map<Label, List<Type>> subtypesExplicit = new HashMap<>();
+        Map<Label, Map<Label, Set<TypeQLToken.Annotation>>> ownsExplicit = new HashMap<>();
+        Map<Label, List<RoleType>> playsExplicit = new HashMap<>();
+        Map<Label, List<RoleType>> relatesExplicit = new HashMap<>();
+        List<Runnable> collectors = new ArrayList<>();
+        for (ThingType type : thingTypes.values()) {
+            Label label = type.getLabel();
+            Stream<ConceptProto.Type> subtypes = subtypesExplicit(transactionExt, label);
+            Stream<ConceptProto.Type> ownedTypes = ownsExplicit(transactionExt, label, emptySet());
+            Stream<ConceptProto.Type> keyTypes = ownsExplicit(transactionExt, label, singleton(KEY));
+            Stream<ConceptProto.Type> uniqueTypes = ownsExplicit(transactionExt, label, singleton(UNIQUE));
+            Stream<ConceptProto.Type> playedTypes = types(transactionExt, getPlaysExplicitReq(label),
+                    ConceptProto.Type.ResPart::getThingTypeGetPlaysExplicitResPart,
+                    ConceptProto.ThingType.GetPlaysExplicit.ResPart::getRoleTypesList);
+            Stream<ConceptProto.Type> relatedTypes = type.isRelationType() ? types(transactionExt, getRelatesExplicitReq(label),
+                    ConceptProto.Type.ResPart::getRelationTypeGetRelatesExplicitResPart,
+                    ConceptProto.RelationType.GetRelatesExplicit.ResPart::getRoleTypesList) : Stream.empty();
+            collectors.add(() -> {
+                subtypesExplicit.put(label, labels(subtypes).map(thingTypes::get).collect(toList()));
+                Map<Label, Set<TypeQLToken.Annotation>> owned = new LinkedHashMap<>();
+                labels(ownedTypes).forEach(attribute -> owned.put(attribute, EnumSet.noneOf(TypeQLToken.Annotation.class)));
+                labels(keyTypes).forEach(attribute -> owned.computeIfAbsent(attribute, l -> EnumSet.noneOf(TypeQLToken.Annotation.class)).add(KEY));
+                labels(uniqueTypes).forEach(attribute -> owned.computeIfAbsent(attribute, l -> EnumSet.noneOf(TypeQLToken.Annotation.class)).add(UNIQUE));
+                owned.replaceAll((attribute, annotations) -> unmodifiableSet(annotations));
+                ownsExplicit.put(label, owned);
+                playsExplicit.put(label, labels(playedTypes).map(roleTypes::get).collect(toList()));
+                relatesExplicit.put(label, labels(relatedTypes).map(roleTypes::get).collect(toList()));
+            });
+        }
+        for (RoleType type : roleTypes.values()) {
+            Stream<ConceptProto.Type> subtypes = subtypesExplicit(transactionExt, type.getLabel());
+            collectors.add(() -> subtypesExplicit.put(type.getLabel(), labels(subtypes).map(roleTypes::get).collect(toList())));
+        }
+        collectors.forEach(Runnable::run);
+
+        Map<Label, Map<Label, Label>> ownsOverridden = new HashMap<>();
+        Map<Label, Map<Label, Label>> playsOverridden = new HashMap<>();
+        Map<Label, Map<Label, Label>> relatesOverridden = new HashMap<>();
+        List<Runnable> overrides = new ArrayList<>();
+        for (ThingType type : thingTypes.values()) {
+            Label label = type.getLabel();
+            for (Label attribute : ownsExplicit.get(label).keySet()) {
+                CompletableFuture<TransactionProto.Transaction.Res> res = transactionExt.queryAsync(
+                        getOwnsOverriddenReq(label, protoThingType(thingTypes.get(attribute)))
+                );
+                overrides.add(() -> {
+                    ConceptProto.ThingType.GetOwnsOverridden.Res overridden = join(res).getTypeRes().getThingTypeGetOwnsOverriddenRes();
+                    if (overridden.hasAttributeType()) {
+                        ownsOverridden.computeIfAbsent(label, l -> new HashMap<>()).put(attribute, label(overridden.getAttributeType()));
+                    }
+                });
+            }
+            for (RoleType role : playsExplicit.get(label)) {
+                CompletableFuture<TransactionProto.Transaction.Res> res = transactionExt.queryAsync(
+                        getPlaysOverriddenReq(label, protoRoleType(role))
+                );
+                overrides.add(() -> {
+                    ConceptProto.ThingType.GetPlaysOverridden.Res overridden = join(res).getTypeRes().getThingTypeGetPlaysOverriddenRes();
+                    if (overridden.hasRoleType()) {
+                        playsOverridden.computeIfAbsent(label, l -> new HashMap<>()).put(role.getLabel(), label(overridden.getRoleType()));
+                    }
+                });
+            }
+            for (RoleType role : relatesExplicit.get(label)) {
+                CompletableFuture<TransactionProto.Transaction.Res> res = transactionExt.queryAsync(
+                        getRelatesOverriddenReq(label, role.getLabel().name())
+                );
+                overrides.add(() -> {
+                    ConceptProto.RelationType.GetRelatesOverridden.Res overridden = join(res).getTypeRes().getRelationTypeGetRelatesOverriddenRes();
+                    if (overridden.hasRoleType()) {
+                        relatesOverridden.computeIfAbsent(label, l -> new HashMap<>()).put(role.getLabel(), label(overridden.getRoleType()));
+                    }
+                });
+            }
+        }
+        overrides.forEach(Runnable::run);
+        return new SchemaSnapshotImpl(
+                thingTypes, roleTypes, subtypesExplicit, ownsExplicit, playsExplicit, relatesExplicit,
+                ownsOverridden, playsOverridden, relatesOverridden
+        );
+    }
+
+    private static TransactionProto.Transaction.Res join(CompletableFuture<TransactionProto.Transaction.Res> res) {
+        try {
+            return res.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            else throw e;
+        }
+    }
+
+    private static Stream<ConceptProto.Type> subtypesExplicit(TypeDBTransaction.Extended transactionExt, Label label) {
+        return types(transactionExt, getSubtypesExplicitReq(label),
+                ConceptProto.Type.ResPart::getTypeGetSubtypesExplicitResPart,
+                ConceptProto.Type.GetSubtypesExplicit.ResPart::getTypesList);
+    }
+
+    private static Stream<ConceptProto.Type> ownsExplicit(TypeDBTransaction.Extended transactionExt, Label label,
+                                                          Set<TypeQLToken.Annotation> annotations) {
+        return types(transactionExt, getOwnsExplicitReq(label, protoAnnotations(annotations)),
+                ConceptProto.Type.ResPart::getThingTypeGetOwnsExplicitResPart,
+                ConceptProto.ThingType.GetOwnsExplicit.ResPart::getAttributeTypesList);
+    }
+
+    private static <P> Stream<ConceptProto.Type> types(
+            TypeDBTransaction.Extended transactionExt, TransactionProto.Transaction.Req.Builder request,
+            Function<ConceptProto.Type.ResPart, P> part, Function<P, List<ConceptProto.Type>> types) {
+        return transactionExt.stream(request)
+                .flatMap(rp -> types.apply(part.apply(rp.getTypeResPart())).stream());
+    }
+
+    private static Stream<Label> labels(Stream<ConceptProto.Type> types) {
+        return types.map(SchemaSnapshotImpl::label);
+    }
+
+    private static Label label(ConceptProto.Type type) {
+        return type.getScope().isEmpty() ? Label.of(type.getLabel()) : Label.of(type.getScope(), type.getLabel());
+    }
+
+    private Type type(Label label) {
+        Type type = thingTypes.get(label);
+        return type != null ? type : roleTypes.get(label);
+    }
+
+    @Override
+    public Stream<? extends ThingType> getThingTypes() {
+        return thingTypes.values().stream();
+    }
+
+    @Override
+    public Stream<? extends RoleType> getRoleTypes() {
+        return roleTypes.values().stream();
+    }
+
+    @Override
+    @Nullable
+    public ThingType getThingType(String label) {
+        return thingTypes.get(Label.of(label));
+    }
+
+    @Override
+    @Nullable
+    public RoleType getRoleType(String scope, String label) {
+        return roleTypes.get(Label.of(scope, label));
+    }
+
+    @Override
+    @Nullable
+    public Type getSupertype(Type type) {
+        return supertypes.get(type.getLabel());
+    }
+
+    @Override
+    public Stream<? extends Type> getSupertypes(Type type) {
+        return Stream.iterate(type(type.getLabel()), t -> t != null, t -> supertypes.get(t.getLabel()));
+    }
+
+    @Override
+    public Stream<? extends Type> getSubtypes(Type type) {
+        Type self = type(type.getLabel());
+        if (self == null) return Stream.empty();
+        return Stream.concat(Stream.of(self), getSubtypesExplicit(type).flatMap(this::getSubtypes));
+    }
+
+    @Override
+    public Stream<? extends Type> getSubtypesExplicit(Type type) {
+        return subtypesExplicit.getOrDefault(type.getLabel(), emptyList()).stream();
+    }
+
+    @Override
+    public Stream<? extends AttributeType> getOwns(ThingType type) {
+        return getOwns(type, emptySet());
+    }
+
+    @Override
+    public Stream<? extends AttributeType> getOwns(ThingType type, Set<TypeQLToken.Annotation> annotations) {
+        return attributeTypes(owns.getOrDefault(type.getLabel(), emptyMap()), annotations);
+    }
+
+    @Override
+    public Stream<? extends AttributeType> getOwnsExplicit(ThingType type) {
+        return getOwnsExplicit(type, emptySet());
+    }
+
+    @Override
+    public Stream<? extends AttributeType> getOwnsExplicit(ThingType type, Set<TypeQLToken.Annotation> annotations) {
+        return attributeTypes(ownsExplicit.getOrDefault(type.getLabel(), emptyMap()), annotations);
+    }
+
+    private Stream<? extends AttributeType> attributeTypes(Map<Label, Set<TypeQLToken.Annotation>> owned,
+                                                         Set<TypeQLToken.Annotation> annotations) {
+        return owned.entrySet().stream().filter(e -> e.getValue().containsAll(annotations))
+                .map(e -> thingTypes.get(e.getKey()).asAttributeType());
+    }
+
+    @Override
+    @Nullable
+    public AttributeType getOwnsOverridden(ThingType type, AttributeType attributeType) {
+        Label overridden = ownsOverridden.getOrDefault(type.getLabel(), emptyMap()).get(attributeType.getLabel());
+        return overridden == null ? null : thingTypes.get(overridden).asAttributeType();
+    }
+
+    @Override
+    public Set<TypeQLToken.Annotation> getOwnsAnnotations(ThingType type, AttributeType attributeType) {
+        return owns.getOrDefault(type.getLabel(), emptyMap()).getOrDefault(attributeType.getLabel(), emptySet());
+    }
+
+    @Override
+    public Stream<? extends ThingType> getOwners(AttributeType type) {
+        return owners.getOrDefault(type.getLabel(), emptyList()).stream();
+    }
+
+    @Override
+    public Stream<? extends RoleType> getPlays(ThingType type) {
+        return plays.getOrDefault(type.getLabel(), emptySet()).stream().map(roleTypes::get);
+    }
+
+    @Override
+    public Stream<? extends RoleType> getPlaysExplicit(ThingType type) {
+        return playsExplicit.getOrDefault(type.getLabel(), emptyList()).stream();
+    }
+
+    @Override
+    @Nullable
+    public RoleType getPlaysOverridden(ThingType type, RoleType roleType) {
+        Label overridden = playsOverridden.getOrDefault(type.getLabel(), emptyMap()).get(roleType.getLabel());
+        return overridden == null ? null : roleTypes.get(overridden);
+    }
+
+    @Override
+    public Stream<? extends ThingType> getPlayerTypes(RoleType type) {
+        return players.getOrDefault(type.getLabel(), emptyList()).stream();
+    }
+
+    @Override
+    public Stream<? extends RoleType> getRelates(RelationType type) {
+        return relates.getOrDefault(type.getLabel(), emptySet()).stream().map(roleTypes::get);
+    }
+
+    @Override
+    public Stream<? extends RoleType> getRelatesExplicit(RelationType type) {
+        return relatesExplicit.getOrDefault(type.getLabel(), emptyList()).stream();
+    }
+
+    @Override
+    @Nullable
+    public RoleType getRelatesOverridden(RelationType type, RoleType roleType) {
+        Label overridden = relatesOverridden.getOrDefault(type.getLabel(), emptyMap()).get(roleType.getLabel());
+        return overridden == null ? null : roleTypes.get(overridden);
+    }
+}
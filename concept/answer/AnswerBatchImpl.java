@@ -0,0 +1,293 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.concept.answer;
+
+import com.google.protobuf.ByteString;
+import com.vaticle.typedb.client.api.answer.AnswerBatch;
+import com.vaticle.typedb.client.api.concept.Concept;
+import com.vaticle.typedb.client.common.IID;
+import com.vaticle.typedb.client.common.Label;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.protocol.AnswerProto;
+import com.vaticle.typedb.protocol.ConceptProto;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.VARIABLE_DOES_NOT_EXIST;
+
+public class AnswerBatchImpl implements AnswerBatch {
+
+    private static final Concept.ValueType[] VALUE_TYPES = Concept.ValueType.values();
+
+    private final int size;
+    private final Map<String, ColumnImpl> columns;
+    private final List<String> variables;
+    private final List<Label> typeLabels;
+
+    private AnswerBatchImpl(int size, Map<String, ColumnImpl> columns, List<Label> typeLabels) {
+        this.size = size;
+        this.columns = columns;
+        this.variables = Collections.unmodifiableList(new ArrayList<>(columns.keySet()));
+        this.typeLabels = Collections.unmodifiableList(typeLabels);
+    }
+
+    public static AnswerBatch of(List<AnswerProto.ConceptMap> answers) {
+        int size = answers.size();
+        Map<String, ColumnImpl> columns = new LinkedHashMap<>();
+        TypeLabels typeLabels = new TypeLabels();
+        for (int row = 0; row < size; row++) {
+            for (Map.Entry<String, ConceptProto.Concept> entry : answers.get(row).getMapMap().entrySet()) {
+                ColumnImpl column = columns.get(entry.getKey());
+                if (column == null) {
+                    column = new ColumnImpl(entry.getKey(), size);
+                    columns.put(entry.getKey(), column);
+                }
+                column.set(row, entry.getValue(), typeLabels);
+            }
+        }
+        return new AnswerBatchImpl(size, columns, typeLabels.labels);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<String> variables() {
+        return variables;
+    }
+
+    @Override
+    public Column column(String variable) {
+        ColumnImpl column = columns.get(variable);
+        if (column == null) throw new TypeDBClientException(VARIABLE_DOES_NOT_EXIST, variable);
+        return column;
+    }
+
+    @Override
+    public List<Label> typeLabels() {
+        return typeLabels;
+    }
+
+    private static class TypeLabels {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<Label> labels = new ArrayList<>();
+
+        private int id(ConceptProto.Type type) {
+            String scope = type.getScope();
+            String name = scope.isEmpty() ? type.getLabel() : scope + ":" + type.getLabel();
+            Integer id = ids.get(name);
+            if (id == null) {
+                id = labels.size();
+                ids.put(name, id);
+                labels.add(scope.isEmpty() ? Label.of(type.getLabel()) : Label.of(scope, type.getLabel()));
+            }
+            return id;
+        }
+    }
+
+    private static class ColumnImpl implements Column {
+
+        private static final Kind[] KINDS = Kind.values();
+
+        private final String variable;
+        private final byte[] kinds;
+        private final byte[] valueTypes;
+        private final int[] typeLabelIDs;
+        private ByteString[] iids;
+        private IID[] iidInstances;
+        private long[] longs;
+        private double[] doubles;
+        private boolean[] booleans;
+        private int[] stringIDs;
+        private final Map<String, Integer> stringDictionary;
+        private final List<String> strings;
+
+        private ColumnImpl(String variable, int size) {
+            this.variable = variable;
+            this.kinds = new byte[size];
+            this.valueTypes = new byte[size];
+            this.typeLabelIDs = new int[size];
+            Arrays.fill(typeLabelIDs, -1);
+            this.stringDictionary = new HashMap<>();
+            this.strings = new ArrayList<>();
+        }
+
+        private void set(int row, ConceptProto.Concept concept, TypeLabels typeLabels) {
+            if (concept.hasThing()) {
+                ConceptProto.Thing thing = concept.getThing();
+                if (iids == null) {
+                    iids = new ByteString[kinds.length];
+                    iidInstances = new IID[kinds.length];
+                }
+                iids[row] = thing.getIid();
+                typeLabelIDs[row] = typeLabels.id(thing.getType());
+                switch (thing.getType().getEncoding()) {
+                    case ENTITY_TYPE:
+                        kinds[row] = (byte) Kind.ENTITY.ordinal();
+                        break;
+                    case RELATION_TYPE:
+                        kinds[row] = (byte) Kind.RELATION.ordinal();
+                        break;
+                    case ATTRIBUTE_TYPE:
+                        kinds[row] = (byte) Kind.ATTRIBUTE.ordinal();
+                        setValue(row, thing.getType().getValueType(), thing.getValue());
+                        break;
+                    default:
+                        throw new TypeDBClientException(ILLEGAL_STATE);
+                }
+            } else if (concept.hasType()) {
+                kinds[row] = (byte) Kind.TYPE.ordinal();
+                typeLabelIDs[row] = typeLabels.id(concept.getType());
+            } else if (concept.hasValue()) {
+                kinds[row] = (byte) Kind.VALUE.ordinal();
+                setValue(row, concept.getValue().getValueType(), concept.getValue().getValue());
+            } else {
+                throw new TypeDBClientException(ILLEGAL_STATE);
+            }
+        }
+
+        private void setValue(int row, ConceptProto.ValueType valueType, ConceptProto.ConceptValue value) {
+            switch (valueType) {
+                case BOOLEAN:
+                    if (booleans == null) booleans = new boolean[kinds.length];
+                    booleans[row] = value.getBoolean();
+                    break;
+                case LONG:
+                    if (longs == null) longs = new long[kinds.length];
+                    longs[row] = value.getLong();
+                    break;
+                case DOUBLE:
+                    if (doubles == null) doubles = new double[kinds.length];
+                    doubles[row] = value.getDouble();
+                    break;
+                case STRING:
+                    if (stringIDs == null) stringIDs = new int[kinds.length];
+                    stringIDs[row] = stringDictionary.computeIfAbsent(value.getString(), string -> {
+                        strings.add(string);
+                        return strings.size() - 1;
+                    });
+                    break;
+                case DATETIME:
+                    if (longs == null) longs = new long[kinds.length];
+                    longs[row] = value.getDateTime();
+                    break;
+                default:
+                    return;
+            }
+            valueTypes[row] = (byte) (Concept.ValueType.of(valueType).ordinal() + 1);
+        }
+
+        @Override
+        public String variable() {
+            return variable;
+        }
+
+        @Override
+        public Kind kind(int row) {
+            return KINDS[kinds[row]];
+        }
+
+        @Override
+        @Nullable
+        public IID iid(int row) {
+            if (iids == null || iids[row] == null) return null;
+            // racing readers may each create an IID, which is harmless as its fields are final or volatile
+            IID iid = iidInstances[row];
+            if (iid == null) iidInstances[row] = iid = IID.of(iids[row]);
+            return iid;
+        }
+
+        @Override
+        @Nullable
+        public ByteString iidBytes(int row) {
+            return iids == null ? null : iids[row];
+        }
+
+        @Override
+        public int typeLabelID(int row) {
+            return typeLabelIDs[row];
+        }
+
+        @Override
+        @Nullable
+        public Concept.ValueType valueType(int row) {
+            return valueTypes[row] == 0 ? null : VALUE_TYPES[valueTypes[row] - 1];
+        }
+
+        @Override
+        public long longValue(int row) {
+            return longs == null ? 0 : longs[row];
+        }
+
+        @Override
+        public double doubleValue(int row) {
+            return doubles == null ? 0 : doubles[row];
+        }
+
+        @Override
+        public boolean booleanValue(int row) {
+            return booleans != null && booleans[row];
+        }
+
+        @Override
+        public int stringID(int row) {
+            return stringIDs == null ? 0 : stringIDs[row];
+        }
+
+        @Override
+        public long[] longs() {
+            return longs == null ? new long[kinds.length] : longs.clone();
+        }
+
+        @Override
+        public double[] doubles() {
+            return doubles == null ? new double[kinds.length] : doubles.clone();
+        }
+
+        @Override
+        public boolean[] booleans() {
+            return booleans == null ? new boolean[kinds.length] : booleans.clone();
+        }
+
+        @Override
+        public int[] stringIDs() {
+            return stringIDs == null ? new int[kinds.length] : stringIDs.clone();
+        }
+
+        @Override
+        public List<String> strings() {
+            return Collections.unmodifiableList(strings);
+        }
+    }
+}
@@ -45,7 +45,8 @@ public class ConceptMapGroupImpl implements ConceptMapGroup {
 
     public static ConceptMapGroup of(AnswerProto.ConceptMapGroup e) {
         Concept owner = ConceptImpl.of(e.getOwner());
-        List<ConceptMap> conceptMaps = e.getConceptMapsList().stream().map(ConceptMapImpl::of).collect(toList());
+        ConceptMapImpl.Decoder decoder = new ConceptMapImpl.Decoder();
+        List<ConceptMap> conceptMaps = e.getConceptMapsList().stream().map(decoder::decode).collect(toList());
         return new ConceptMapGroupImpl(owner, conceptMaps);
     }
 
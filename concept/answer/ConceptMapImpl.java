@@ -27,39 +27,72 @@ import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.concept.ConceptImpl;
 import com.vaticle.typedb.common.collection.Pair;
 import com.vaticle.typedb.protocol.AnswerProto;
+import com.vaticle.typedb.protocol.ConceptProto;
 
+import javax.annotation.Nullable;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Concept.NONEXISTENT_EXPLAINABLE_CONCEPT;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Concept.NONEXISTENT_EXPLAINABLE_OWNERSHIP;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.VARIABLE_DOES_NOT_EXIST;
+import static java.util.Collections.emptyMap;
 
 public class ConceptMapImpl implements ConceptMap {
 
-    private final Map<String, Concept> map;
-    private final Explainables explainables;
+    private final Variables variables;
+    private final Concept[] concepts;
+    private final ConceptProto.Concept[] conceptProtos;
+    private final AnswerProto.Explainables explainablesProto;
+    private volatile Explainables explainables;
+    private volatile Map<String, Concept> map;
 
     public ConceptMapImpl(Map<String, Concept> map) {
-        this(map, new ExplainablesImpl());
+        this(map, ExplainablesImpl.EMPTY);
     }
 
     public ConceptMapImpl(Map<String, Concept> map, Explainables explainables) {
-        this.map = Collections.unmodifiableMap(map);
+        this.variables = Variables.of(map.keySet());
+        this.concepts = new Concept[variables.size()];
+        map.forEach((variable, concept) -> this.concepts[variables.index(variable)] = concept);
+        this.conceptProtos = null;
+        this.explainablesProto = null;
         this.explainables = explainables;
     }
 
+    // Concepts and explainables are decoded from the protos on first access; racing readers may each decode, which
+    // is harmless as the results are equal and safely published: the lazy fields are volatile, and the decoded
+    // concepts, stored in a plain array, have only final fields
+    private ConceptMapImpl(Variables variables, ConceptProto.Concept[] conceptProtos,
+                           AnswerProto.Explainables explainablesProto) {
+        this.variables = variables;
+        this.concepts = new Concept[conceptProtos.length];
+        this.conceptProtos = conceptProtos;
+        this.explainablesProto = explainablesProto;
+        this.explainables = null;
+    }
+
     public static ConceptMap of(AnswerProto.ConceptMap res) {
-        Map<String, Concept> variableMap = new HashMap<>();
-        res.getMapMap().forEach((resVar, resConcept) -> variableMap.put(resVar, ConceptImpl.of(resConcept)));
-        return new ConceptMapImpl(Collections.unmodifiableMap(variableMap), of(res.getExplainables()));
+        return new Decoder().decode(res);
     }
 
     private static Explainables of(AnswerProto.Explainables explainables) {
+        if (explainables.getRelationsCount() == 0 && explainables.getAttributesCount() == 0
+                && explainables.getOwnershipsCount() == 0) {
+            return ExplainablesImpl.EMPTY;
+        }
         Map<String, Explainable> relations = new HashMap<>();
         explainables.getRelationsMap().forEach((var, explainable) -> {
             relations.put(var, ExplainableImpl.of(explainable));
@@ -79,29 +112,53 @@ public class ConceptMapImpl implements ConceptMap {
 
     @Override
     public Map<String, Concept> map() {
+        Map<String, Concept> map = this.map;
+        if (map == null) this.map = map = new RowMap();
         return map;
     }
 
     @Override
     public Collection<Concept> concepts() {
-        return map.values();
+        return new AbstractList<Concept>() {
+
+            @Override
+            public Concept get(int index) {
+                return concept(index);
+            }
+
+            @Override
+            public int size() {
+                return concepts.length;
+            }
+        };
     }
 
     @Override
     public Concept get(String variable) {
-        Concept concept = map.get(variable);
-        if (concept == null) throw new TypeDBClientException(VARIABLE_DOES_NOT_EXIST, variable);
+        int index = variables.index(variable);
+        if (index < 0) throw new TypeDBClientException(VARIABLE_DOES_NOT_EXIST, variable);
+        return concept(index);
+    }
+
+    private Concept concept(int index) {
+        Concept concept = concepts[index];
+        if (concept == null) {
+            concept = ConceptImpl.of(conceptProtos[index]);
+            concepts[index] = concept;
+        }
         return concept;
     }
 
     @Override
     public Explainables explainables() {
+        Explainables explainables = this.explainables;
+        if (explainables == null) this.explainables = explainables = of(explainablesProto);
         return explainables;
     }
 
     @Override
     public String toString() {
-        return map.entrySet().stream()
+        return map().entrySet().stream()
                 .sorted(Map.Entry.comparingByKey())
                 .map(e -> "[" + e.getKey() + "/" + e.getValue() + "]").collect(Collectors.joining());
     }
@@ -111,23 +168,154 @@ public class ConceptMapImpl implements ConceptMap {
         if (obj == this) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         ConceptMapImpl a2 = (ConceptMapImpl) obj;
-        return map.equals(a2.map);
+        if (variables != a2.variables) return map().equals(a2.map());
+        for (int i = 0; i < concepts.length; i++) {
+            if (!concept(i).equals(a2.concept(i))) return false;
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return map.hashCode();
+        // consistent with Map.hashCode(), without materialising the map
+        int hash = 0;
+        for (int i = 0; i < concepts.length; i++) hash += variables.name(i).hashCode() ^ concept(i).hashCode();
+        return hash;
     }
 
-    public static class ExplainablesImpl implements Explainables {
+    // Rows of one query stream share the variable names and their positions; only the concepts differ per row
+    static class Variables {
+
+        private final String[] names;
+        private final Map<String, Integer> indices;
+        private final List<String> list;
+
+        private Variables(String[] names) {
+            this.names = names;
+            this.indices = new HashMap<>();
+            for (int i = 0; i < names.length; i++) indices.put(names[i], i);
+            this.list = Collections.unmodifiableList(Arrays.asList(names));
+        }
+
+        // positions follow the sorted names, so a variable has the same index in every row with the same variables,
+        // whichever layout instance or wire order the row came with
+        static Variables of(Collection<String> names) {
+            String[] sorted = names.toArray(new String[0]);
+            Arrays.sort(sorted);
+            return new Variables(sorted);
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        String name(int index) {
+            return names[index];
+        }
+
+        int index(String name) {
+            Integer index = indices.get(name);
+            return index == null ? -1 : index;
+        }
+
+        List<String> list() {
+            return list;
+        }
+
+        private boolean matches(Collection<String> names) {
+            if (size() != names.size()) return false;
+            for (String name : names) {
+                if (index(name) < 0) return false;
+            }
+            return true;
+        }
+
+        // the layout of the previous row of the stream is reused for as long as the rows share it
+        static Variables resolve(@Nullable Variables previous, Map<String, ConceptProto.Concept> protoMap) {
+            if (previous != null && previous.matches(protoMap.keySet())) return previous;
+            else return Variables.of(protoMap.keySet());
+        }
+
+        ConceptProto.Concept[] arrange(Map<String, ConceptProto.Concept> protoMap) {
+            ConceptProto.Concept[] conceptProtos = new ConceptProto.Concept[names.length];
+            for (Map.Entry<String, ConceptProto.Concept> entry : protoMap.entrySet()) {
+                conceptProtos[index(entry.getKey())] = entry.getValue();
+            }
+            return conceptProtos;
+        }
+    }
+
+    // Decodes the rows of one query stream into concept maps
+    public static class Decoder {
+
+        private volatile Variables variables;
+
+        public ConceptMap decode(AnswerProto.ConceptMap res) {
+            Variables variables = Variables.resolve(this.variables, res.getMapMap());
+            this.variables = variables;
+            return new ConceptMapImpl(variables, variables.arrange(res.getMapMap()), res.getExplainables());
+        }
+    }
+
+    private class RowMap extends AbstractMap<String, Concept> {
+
+        @Override
+        public Concept get(Object key) {
+            if (!(key instanceof String)) return null;
+            int index = variables.index((String) key);
+            return index < 0 ? null : concept(index);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && variables.index((String) key) >= 0;
+        }
 
-        Map<String, Explainable> explainableRelations;
-        Map<String, Explainable> explainableAttributes;
-        Map<Pair<String, String>, Explainable> explainableOwnerships;
+        @Override
+        public int size() {
+            return concepts.length;
+        }
 
-        ExplainablesImpl() {
-            this(new HashMap<>(), new HashMap<>(), new HashMap<>());
+        @Override
+        public Set<Entry<String, Concept>> entrySet() {
+            return new AbstractSet<Entry<String, Concept>>() {
+
+                @Override
+                public Iterator<Entry<String, Concept>> iterator() {
+                    return new Iterator<Entry<String, Concept>>() {
+
+                        private int index = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < concepts.length;
+                        }
+
+                        @Override
+                        public Entry<String, Concept> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            Entry<String, Concept> entry = new SimpleImmutableEntry<>(variables.name(index), concept(index));
+                            index++;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return concepts.length;
+                }
+            };
         }
+    }
+
+    public static class ExplainablesImpl implements Explainables {
+
+        private final Map<String, Explainable> explainableRelations;
+        private final Map<String, Explainable> explainableAttributes;
+        private final Map<Pair<String, String>, Explainable> explainableOwnerships;
+
+        static final ExplainablesImpl EMPTY = new ExplainablesImpl(emptyMap(), emptyMap(), emptyMap());
 
         ExplainablesImpl(Map<String, Explainable> explainableRelations, Map<String, Explainable> explainableAttributes,
                          Map<Pair<String, String>, Explainable> explainableOwnerships) {
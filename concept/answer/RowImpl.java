@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.concept.answer;
+
+import com.vaticle.typedb.client.api.query.RowMapper;
+import com.vaticle.typedb.client.common.IID;
+import com.vaticle.typedb.client.common.Label;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.protocol.AnswerProto;
+import com.vaticle.typedb.protocol.ConceptProto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.BAD_ROW_CONVERSION;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.VARIABLE_DOES_NOT_EXIST;
+import static com.vaticle.typedb.protocol.ConceptProto.ValueType.BOOLEAN;
+import static com.vaticle.typedb.protocol.ConceptProto.ValueType.DATETIME;
+import static com.vaticle.typedb.protocol.ConceptProto.ValueType.DOUBLE;
+import static com.vaticle.typedb.protocol.ConceptProto.ValueType.LONG;
+import static com.vaticle.typedb.protocol.ConceptProto.ValueType.STRING;
+
+// Reads values, IIDs and type labels directly from the wire answer, without decoding any concepts
+public class RowImpl implements RowMapper.Row {
+
+    private final ConceptMapImpl.Variables variables;
+    private final ConceptProto.Concept[] conceptProtos;
+
+    private RowImpl(ConceptMapImpl.Variables variables, ConceptProto.Concept[] conceptProtos) {
+        this.variables = variables;
+        this.conceptProtos = conceptProtos;
+    }
+
+    @Override
+    public List<String> variables() {
+        return variables.list();
+    }
+
+    @Override
+    public int index(String variable) {
+        return variables.index(variable);
+    }
+
+    @Override
+    public boolean getBoolean(String variable) {
+        return getBoolean(indexOf(variable));
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        return value(index, BOOLEAN).getBoolean();
+    }
+
+    @Override
+    public long getLong(String variable) {
+        return getLong(indexOf(variable));
+    }
+
+    @Override
+    public long getLong(int index) {
+        return value(index, LONG).getLong();
+    }
+
+    @Override
+    public double getDouble(String variable) {
+        return getDouble(indexOf(variable));
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return value(index, DOUBLE).getDouble();
+    }
+
+    @Override
+    public String getString(String variable) {
+        return getString(indexOf(variable));
+    }
+
+    @Override
+    public String getString(int index) {
+        return value(index, STRING).getString();
+    }
+
+    @Override
+    public LocalDateTime getDateTime(String variable) {
+        return getDateTime(indexOf(variable));
+    }
+
+    @Override
+    public LocalDateTime getDateTime(int index) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(value(index, DATETIME).getDateTime()), ZoneOffset.UTC);
+    }
+
+    @Override
+    public IID getIID(String variable) {
+        return getIID(indexOf(variable));
+    }
+
+    @Override
+    public IID getIID(int index) {
+        ConceptProto.Concept concept = concept(index);
+        if (!concept.hasThing()) throw new TypeDBClientException(BAD_ROW_CONVERSION, variables.name(index), "IID");
+        return IID.of(concept.getThing().getIid());
+    }
+
+    @Override
+    public Label getTypeLabel(String variable) {
+        return getTypeLabel(indexOf(variable));
+    }
+
+    @Override
+    public Label getTypeLabel(int index) {
+        ConceptProto.Concept concept = concept(index);
+        ConceptProto.Type type;
+        if (concept.hasThing()) type = concept.getThing().getType();
+        else if (concept.hasType()) type = concept.getType();
+        else throw new TypeDBClientException(BAD_ROW_CONVERSION, variables.name(index), "Label");
+        if (type.getScope().isEmpty()) return Label.of(type.getLabel());
+        else return Label.of(type.getScope(), type.getLabel());
+    }
+
+    private int indexOf(String variable) {
+        int index = variables.index(variable);
+        if (index < 0) throw new TypeDBClientException(VARIABLE_DOES_NOT_EXIST, variable);
+        return index;
+    }
+
+    private ConceptProto.Concept concept(int index) {
+        if (index < 0 || index >= conceptProtos.length) throw new TypeDBClientException(VARIABLE_DOES_NOT_EXIST, index);
+        return conceptProtos[index];
+    }
+
+    private ConceptProto.ConceptValue value(int index, ConceptProto.ValueType valueType) {
+        ConceptProto.Concept concept = concept(index);
+        if (concept.hasThing() && concept.getThing().getType().getValueType() == valueType) {
+            return concept.getThing().getValue();
+        } else if (concept.hasValue() && concept.getValue().getValueType() == valueType) {
+            return concept.getValue().getValue();
+        } else {
+            throw new TypeDBClientException(BAD_ROW_CONVERSION, variables.name(index), valueType);
+        }
+    }
+
+    public static class Decoder {
+
+        private volatile ConceptMapImpl.Variables variables;
+
+        public RowMapper.Row decode(AnswerProto.ConceptMap res) {
+            ConceptMapImpl.Variables variables = ConceptMapImpl.Variables.resolve(this.variables, res.getMapMap());
+            this.variables = variables;
+            return new RowImpl(variables, variables.arrange(res.getMapMap()));
+        }
+    }
+}
@@ -24,6 +24,7 @@ package com.vaticle.typedb.client.concept.thing;
 import com.vaticle.typedb.client.api.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.thing.Attribute;
 import com.vaticle.typedb.client.api.concept.type.ThingType;
+import com.vaticle.typedb.client.common.IID;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.concept.type.AttributeTypeImpl;
 import com.vaticle.typedb.protocol.ConceptProto;
@@ -37,12 +38,11 @@ import static com.vaticle.typedb.client.common.exception.ErrorMessage.Concept.BA
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Concept.INVALID_CONCEPT_CASTING;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Thing.Attribute.getOwnersReq;
 import static com.vaticle.typedb.client.concept.type.ThingTypeImpl.protoThingType;
-import static com.vaticle.typedb.common.collection.Bytes.bytesToHexString;
 import static com.vaticle.typedb.common.util.Objects.className;
 
 public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribute<VALUE> {
 
-    AttributeImpl(java.lang.String iid, boolean isInferred) {
+    AttributeImpl(IID iid, boolean isInferred) {
         super(iid, isInferred);
     }
 
@@ -101,20 +101,20 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
     public abstract static class Remote<VALUE> extends ThingImpl.Remote implements Attribute.Remote<VALUE> {
 
-        Remote(TypeDBTransaction transaction, java.lang.String iid, boolean isInferred) {
+        Remote(TypeDBTransaction transaction, IID iid, boolean isInferred) {
             super(transaction, iid, isInferred);
         }
 
         @Override
         public final Stream<ThingImpl> getOwners() {
-            return stream(getOwnersReq(getIID()))
+            return stream(getOwnersReq(getRawIID()))
                     .flatMap(rp -> rp.getAttributeGetOwnersResPart().getThingsList().stream())
                     .map(ThingImpl::of);
         }
 
         @Override
         public Stream<ThingImpl> getOwners(ThingType ownerType) {
-            return stream(getOwnersReq(getIID(), protoThingType(ownerType)))
+            return stream(getOwnersReq(getRawIID(), protoThingType(ownerType)))
                     .flatMap(rp -> rp.getAttributeGetOwnersResPart().getThingsList().stream())
                     .map(ThingImpl::of);
         }
@@ -158,9 +158,9 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
     public static class Boolean extends AttributeImpl<java.lang.Boolean> implements Attribute.Boolean {
 
         private final AttributeTypeImpl.Boolean type;
-        private final java.lang.Boolean value;
+        private final boolean value;
 
-        Boolean(java.lang.String iid, boolean isInferred, AttributeTypeImpl.Boolean type, boolean value) {
+        Boolean(IID iid, boolean isInferred, AttributeTypeImpl.Boolean type, boolean value) {
             super(iid, isInferred);
             this.type = type;
             this.value = value;
@@ -168,7 +168,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         public static AttributeImpl.Boolean of(ConceptProto.Thing thingProto) {
             return new AttributeImpl.Boolean(
-                    bytesToHexString(thingProto.getIid().toByteArray()),
+                    IID.of(thingProto.getIid()),
                     thingProto.getInferred(),
                     AttributeTypeImpl.Boolean.of(thingProto.getType()),
                     thingProto.getValue().getBoolean()
@@ -185,6 +185,11 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
             return value;
         }
 
+        @Override
+        public final boolean booleanValue() {
+            return value;
+        }
+
         @Override
         public final AttributeImpl.Boolean asBoolean() {
             return this;
@@ -192,15 +197,15 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         @Override
         public AttributeImpl.Boolean.Remote asRemote(TypeDBTransaction transaction) {
-            return new AttributeImpl.Boolean.Remote(transaction, getIID(), isInferred(), type, value);
+            return new AttributeImpl.Boolean.Remote(transaction, getRawIID(), isInferred(), type, value);
         }
 
         public static class Remote extends AttributeImpl.Remote<java.lang.Boolean> implements Attribute.Boolean.Remote {
 
             private final AttributeTypeImpl.Boolean type;
-            private final java.lang.Boolean value;
+            private final boolean value;
 
-            Remote(TypeDBTransaction transaction, java.lang.String iid, boolean isInferred, AttributeTypeImpl.Boolean type, java.lang.Boolean value) {
+            Remote(TypeDBTransaction transaction, IID iid, boolean isInferred, AttributeTypeImpl.Boolean type, boolean value) {
                 super(transaction, iid, isInferred);
                 this.type = type;
                 this.value = value;
@@ -208,7 +213,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
             @Override
             public Attribute.Boolean.Remote asRemote(TypeDBTransaction transaction) {
-                return new AttributeImpl.Boolean.Remote(transaction, getIID(), isInferred(), type, value);
+                return new AttributeImpl.Boolean.Remote(transaction, getRawIID(), isInferred(), type, value);
             }
 
             @Override
@@ -216,6 +221,11 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
                 return value;
             }
 
+            @Override
+            public final boolean booleanValue() {
+                return value;
+            }
+
             @Override
             public AttributeTypeImpl.Boolean getType() {
                 return type;
@@ -233,7 +243,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
         private final AttributeTypeImpl.Long type;
         private final long value;
 
-        Long(java.lang.String iid, boolean isInferred, AttributeTypeImpl.Long type, long value) {
+        Long(IID iid, boolean isInferred, AttributeTypeImpl.Long type, long value) {
             super(iid, isInferred);
             this.type = type;
             this.value = value;
@@ -241,7 +251,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         public static AttributeImpl.Long of(ConceptProto.Thing thingProto) {
             return new AttributeImpl.Long(
-                    bytesToHexString(thingProto.getIid().toByteArray()),
+                    IID.of(thingProto.getIid()),
                     thingProto.getInferred(),
                     AttributeTypeImpl.Long.of(thingProto.getType()),
                     thingProto.getValue().getLong()
@@ -258,6 +268,11 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
             return value;
         }
 
+        @Override
+        public final long longValue() {
+            return value;
+        }
+
         @Override
         public final AttributeImpl.Long asLong() {
             return this;
@@ -265,7 +280,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         @Override
         public AttributeImpl.Long.Remote asRemote(TypeDBTransaction transaction) {
-            return new AttributeImpl.Long.Remote(transaction, getIID(), isInferred(), type, value);
+            return new AttributeImpl.Long.Remote(transaction, getRawIID(), isInferred(), type, value);
         }
 
         public static class Remote extends AttributeImpl.Remote<java.lang.Long> implements Attribute.Long.Remote {
@@ -273,7 +288,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
             private final AttributeTypeImpl.Long type;
             private final long value;
 
-            Remote(TypeDBTransaction transaction, java.lang.String iid, boolean isInferred, AttributeTypeImpl.Long type, long value) {
+            Remote(TypeDBTransaction transaction, IID iid, boolean isInferred, AttributeTypeImpl.Long type, long value) {
                 super(transaction, iid, isInferred);
                 this.type = type;
                 this.value = value;
@@ -281,7 +296,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
             @Override
             public Attribute.Long.Remote asRemote(TypeDBTransaction transaction) {
-                return new AttributeImpl.Long.Remote(transaction, getIID(), isInferred(), type, value);
+                return new AttributeImpl.Long.Remote(transaction, getRawIID(), isInferred(), type, value);
             }
 
             @Override
@@ -289,6 +304,11 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
                 return value;
             }
 
+            @Override
+            public final long longValue() {
+                return value;
+            }
+
             @Override
             public AttributeTypeImpl.Long getType() {
                 return type;
@@ -306,7 +326,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
         private final AttributeTypeImpl.Double type;
         private final double value;
 
-        Double(java.lang.String iid, boolean isInferred, AttributeTypeImpl.Double type, double value) {
+        Double(IID iid, boolean isInferred, AttributeTypeImpl.Double type, double value) {
             super(iid, isInferred);
             this.type = type;
             this.value = value;
@@ -314,7 +334,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         public static AttributeImpl.Double of(ConceptProto.Thing thingProto) {
             return new AttributeImpl.Double(
-                    bytesToHexString(thingProto.getIid().toByteArray()),
+                    IID.of(thingProto.getIid()),
                     thingProto.getInferred(),
                     AttributeTypeImpl.Double.of(thingProto.getType()),
                     thingProto.getValue().getDouble()
@@ -331,6 +351,11 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
             return value;
         }
 
+        @Override
+        public final double doubleValue() {
+            return value;
+        }
+
         @Override
         public final AttributeImpl.Double asDouble() {
             return this;
@@ -338,7 +363,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         @Override
         public AttributeImpl.Double.Remote asRemote(TypeDBTransaction transaction) {
-            return new AttributeImpl.Double.Remote(transaction, getIID(), isInferred(), type, value);
+            return new AttributeImpl.Double.Remote(transaction, getRawIID(), isInferred(), type, value);
         }
 
         public static class Remote extends AttributeImpl.Remote<java.lang.Double> implements Attribute.Double.Remote {
@@ -346,7 +371,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
             private final AttributeTypeImpl.Double type;
             private final double value;
 
-            Remote(TypeDBTransaction transaction, java.lang.String iid, boolean isInferred, AttributeTypeImpl.Double type, double value) {
+            Remote(TypeDBTransaction transaction, IID iid, boolean isInferred, AttributeTypeImpl.Double type, double value) {
                 super(transaction, iid, isInferred);
                 this.type = type;
                 this.value = value;
@@ -354,7 +379,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
             @Override
             public Attribute.Double.Remote asRemote(TypeDBTransaction transaction) {
-                return new AttributeImpl.Double.Remote(transaction, getIID(), isInferred(), type, value);
+                return new AttributeImpl.Double.Remote(transaction, getRawIID(), isInferred(), type, value);
             }
 
             @Override
@@ -362,6 +387,11 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
                 return value;
             }
 
+            @Override
+            public final double doubleValue() {
+                return value;
+            }
+
             @Override
             public AttributeTypeImpl.Double getType() {
                 return type;
@@ -379,7 +409,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
         private final AttributeTypeImpl.String type;
         private final java.lang.String value;
 
-        String(java.lang.String iid, boolean isInferred, AttributeTypeImpl.String type, java.lang.String value) {
+        String(IID iid, boolean isInferred, AttributeTypeImpl.String type, java.lang.String value) {
             super(iid, isInferred);
             this.type = type;
             this.value = value;
@@ -387,7 +417,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         public static AttributeImpl.String of(ConceptProto.Thing thingProto) {
             return new AttributeImpl.String(
-                    bytesToHexString(thingProto.getIid().toByteArray()),
+                    IID.of(thingProto.getIid()),
                     thingProto.getInferred(),
                     AttributeTypeImpl.String.of(thingProto.getType()),
                     thingProto.getValue().getString()
@@ -411,7 +441,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         @Override
         public AttributeImpl.String.Remote asRemote(TypeDBTransaction transaction) {
-            return new AttributeImpl.String.Remote(transaction, getIID(), isInferred(), type, value);
+            return new AttributeImpl.String.Remote(transaction, getRawIID(), isInferred(), type, value);
         }
 
         public static class Remote extends AttributeImpl.Remote<java.lang.String> implements Attribute.String.Remote {
@@ -419,7 +449,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
             private final AttributeTypeImpl.String type;
             private final java.lang.String value;
 
-            Remote(TypeDBTransaction transaction, java.lang.String iid, boolean isInferred, AttributeTypeImpl.String type, java.lang.String value) {
+            Remote(TypeDBTransaction transaction, IID iid, boolean isInferred, AttributeTypeImpl.String type, java.lang.String value) {
                 super(transaction, iid, isInferred);
                 this.type = type;
                 this.value = value;
@@ -427,7 +457,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
             @Override
             public Attribute.String.Remote asRemote(TypeDBTransaction transaction) {
-                return new AttributeImpl.String.Remote(transaction, getIID(), isInferred(), type, value);
+                return new AttributeImpl.String.Remote(transaction, getRawIID(), isInferred(), type, value);
             }
 
             @Override
@@ -452,7 +482,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
         private final AttributeTypeImpl.DateTime type;
         private final LocalDateTime value;
 
-        DateTime(java.lang.String iid, boolean isInferred, AttributeTypeImpl.DateTime type, LocalDateTime value) {
+        DateTime(IID iid, boolean isInferred, AttributeTypeImpl.DateTime type, LocalDateTime value) {
             super(iid, isInferred);
             this.type = type;
             this.value = value;
@@ -461,7 +491,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
         public static AttributeImpl.DateTime of(ConceptProto.Thing thingProto) {
             long rpcDatetime = thingProto.getValue().getDateTime();
             return new AttributeImpl.DateTime(
-                    bytesToHexString(thingProto.getIid().toByteArray()),
+                    IID.of(thingProto.getIid()),
                     thingProto.getInferred(),
                     AttributeTypeImpl.DateTime.of(thingProto.getType()),
                     LocalDateTime.ofInstant(Instant.ofEpochMilli(rpcDatetime), ZoneOffset.UTC)
@@ -485,7 +515,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         @Override
         public AttributeImpl.DateTime.Remote asRemote(TypeDBTransaction transaction) {
-            return new AttributeImpl.DateTime.Remote(transaction, getIID(), isInferred(), type, value);
+            return new AttributeImpl.DateTime.Remote(transaction, getRawIID(), isInferred(), type, value);
         }
 
         public static class Remote extends AttributeImpl.Remote<LocalDateTime> implements Attribute.DateTime.Remote {
@@ -493,7 +523,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
             private final AttributeTypeImpl.DateTime type;
             private final LocalDateTime value;
 
-            Remote(TypeDBTransaction transaction, java.lang.String iid, boolean isInferred, AttributeTypeImpl.DateTime type, LocalDateTime value) {
+            Remote(TypeDBTransaction transaction, IID iid, boolean isInferred, AttributeTypeImpl.DateTime type, LocalDateTime value) {
                 super(transaction, iid, isInferred);
                 this.type = type;
                 this.value = value;
@@ -501,7 +531,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
             @Override
             public Attribute.DateTime.Remote asRemote(TypeDBTransaction transaction) {
-                return new AttributeImpl.DateTime.Remote(transaction, getIID(), isInferred(), type, value);
+                return new AttributeImpl.DateTime.Remote(transaction, getRawIID(), isInferred(), type, value);
             }
 
             @Override
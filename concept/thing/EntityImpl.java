@@ -23,21 +23,21 @@ package com.vaticle.typedb.client.concept.thing;
 
 import com.vaticle.typedb.client.api.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.thing.Entity;
+import com.vaticle.typedb.client.common.IID;
 import com.vaticle.typedb.client.concept.type.EntityTypeImpl;
-import com.vaticle.typedb.common.collection.Bytes;
 import com.vaticle.typedb.protocol.ConceptProto;
 
 public class EntityImpl extends ThingImpl implements Entity {
 
     private final EntityTypeImpl type;
 
-    EntityImpl(String iid, boolean isInferred, EntityTypeImpl type) {
+    EntityImpl(IID iid, boolean isInferred, EntityTypeImpl type) {
         super(iid, isInferred);
         this.type = type;
     }
 
     public static EntityImpl of(ConceptProto.Thing protoThing) {
-        return new EntityImpl(Bytes.bytesToHexString(protoThing.getIid().toByteArray()), protoThing.getInferred(), EntityTypeImpl.of(protoThing.getType()));
+        return new EntityImpl(IID.of(protoThing.getIid()), protoThing.getInferred(), EntityTypeImpl.of(protoThing.getType()));
     }
 
     @Override
@@ -47,7 +47,7 @@ public class EntityImpl extends ThingImpl implements Entity {
 
     @Override
     public EntityImpl.Remote asRemote(TypeDBTransaction transaction) {
-        return new EntityImpl.Remote(transaction, getIID(), isInferred(), type);
+        return new EntityImpl.Remote(transaction, getRawIID(), isInferred(), type);
     }
 
     @Override
@@ -59,14 +59,14 @@ public class EntityImpl extends ThingImpl implements Entity {
 
         private final EntityTypeImpl type;
 
-        public Remote(TypeDBTransaction transaction, String iid, boolean isInferred, EntityTypeImpl type) {
+        public Remote(TypeDBTransaction transaction, IID iid, boolean isInferred, EntityTypeImpl type) {
             super(transaction, iid, isInferred);
             this.type = type;
         }
 
         @Override
         public EntityImpl.Remote asRemote(TypeDBTransaction transaction) {
-            return new EntityImpl.Remote(transaction, getIID(), isInferred(), type);
+            return new EntityImpl.Remote(transaction, getRawIID(), isInferred(), type);
         }
 
         @Override
@@ -25,10 +25,10 @@ import com.vaticle.typedb.client.api.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.thing.Relation;
 import com.vaticle.typedb.client.api.concept.thing.Thing;
 import com.vaticle.typedb.client.api.concept.type.RoleType;
+import com.vaticle.typedb.client.common.IID;
 import com.vaticle.typedb.client.concept.type.RelationTypeImpl;
 import com.vaticle.typedb.client.concept.type.RoleTypeImpl;
 import com.vaticle.typedb.client.concept.type.TypeImpl;
-import com.vaticle.typedb.common.collection.Bytes;
 import com.vaticle.typedb.protocol.ConceptProto;
 
 import java.util.ArrayList;
@@ -52,20 +52,20 @@ public class RelationImpl extends ThingImpl implements Relation {
 
     private final RelationTypeImpl type;
 
-    RelationImpl(String iid, boolean isInferred, RelationTypeImpl type) {
+    RelationImpl(IID iid, boolean isInferred, RelationTypeImpl type) {
         super(iid, isInferred);
         this.type = type;
     }
 
     public static RelationImpl of(ConceptProto.Thing protoThing) {
-        return new RelationImpl(Bytes.bytesToHexString(protoThing.getIid().toByteArray()),
+        return new RelationImpl(IID.of(protoThing.getIid()),
                 protoThing.getInferred(),
                 RelationTypeImpl.of(protoThing.getType()));
     }
 
     @Override
     public RelationImpl.Remote asRemote(TypeDBTransaction transaction) {
-        return new RelationImpl.Remote(transaction, getIID(), isInferred(), type);
+        return new RelationImpl.Remote(transaction, getRawIID(), isInferred(), type);
     }
 
     @Override
@@ -82,14 +82,14 @@ public class RelationImpl extends ThingImpl implements Relation {
 
         private final RelationTypeImpl type;
 
-        public Remote(TypeDBTransaction transaction, String iid, boolean isInferred, RelationTypeImpl type) {
+        public Remote(TypeDBTransaction transaction, IID iid, boolean isInferred, RelationTypeImpl type) {
             super(transaction, iid, isInferred);
             this.type = type;
         }
 
         @Override
         public RelationImpl.Remote asRemote(TypeDBTransaction transaction) {
-            return new RelationImpl.Remote(transaction, getIID(), isInferred(), type);
+            return new RelationImpl.Remote(transaction, getRawIID(), isInferred(), type);
         }
 
         @Override
@@ -99,17 +99,17 @@ public class RelationImpl extends ThingImpl implements Relation {
 
         @Override
         public void addPlayer(RoleType roleType, Thing player) {
-            execute(addPlayerReq(getIID(), protoRoleType(roleType), protoThing(player.getIID())));
+            execute(addPlayerReq(getRawIID(), protoRoleType(roleType), protoThing(player.getRawIID())));
         }
 
         @Override
         public void removePlayer(RoleType roleType, Thing player) {
-            execute(removePlayerReq(getIID(), protoRoleType(roleType), protoThing(player.getIID())));
+            execute(removePlayerReq(getRawIID(), protoRoleType(roleType), protoThing(player.getRawIID())));
         }
 
         @Override
         public Stream<ThingImpl> getPlayers(RoleType... roleTypes) {
-            return stream(getPlayersReq(getIID(), protoTypes(asList(roleTypes))))
+            return stream(getPlayersReq(getRawIID(), protoTypes(asList(roleTypes))))
                     .flatMap(rp -> rp.getRelationGetPlayersResPart().getThingsList().stream())
                     .map(ThingImpl::of);
         }
@@ -117,7 +117,7 @@ public class RelationImpl extends ThingImpl implements Relation {
         @Override
         public Map<RoleTypeImpl, List<ThingImpl>> getPlayersByRoleType() {
             Map<RoleTypeImpl, List<ThingImpl>> rolePlayerMap = new HashMap<>();
-            stream(getPlayersByRoleTypeReq(getIID()))
+            stream(getPlayersByRoleTypeReq(getRawIID()))
                     .flatMap(rp -> rp.getRelationGetPlayersByRoleTypeResPart().getRoleTypesWithPlayersList().stream())
                     .forEach(rolePlayer -> {
                         RoleTypeImpl role = TypeImpl.of(rolePlayer.getRoleType()).asRoleType();
@@ -130,7 +130,7 @@ public class RelationImpl extends ThingImpl implements Relation {
 
         @Override
         public Stream<? extends RoleType> getRelating() {
-            return stream(getRelatingReq(getIID()))
+            return stream(getRelatingReq(getRawIID()))
                     .flatMap(rp -> rp.getRelationGetRelatingResPart().getRoleTypesList().stream())
                     .map(RoleTypeImpl::of);
         }
@@ -26,6 +26,7 @@ import com.vaticle.typedb.client.api.concept.thing.Attribute;
 import com.vaticle.typedb.client.api.concept.thing.Thing;
 import com.vaticle.typedb.client.api.concept.type.AttributeType;
 import com.vaticle.typedb.client.api.concept.type.RoleType;
+import com.vaticle.typedb.client.common.IID;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.concept.ConceptImpl;
 import com.vaticle.typedb.client.concept.type.RoleTypeImpl;
@@ -57,10 +58,10 @@ import static java.util.Collections.emptySet;
 
 public abstract class ThingImpl extends ConceptImpl implements Thing {
 
-    private final String iid;
+    private final IID iid;
     private final boolean isInferred;
 
-    ThingImpl(String iid, boolean isInferred) {
+    ThingImpl(IID iid, boolean isInferred) {
         if (iid == null || iid.isEmpty()) throw new TypeDBClientException(MISSING_IID);
         this.iid = iid;
         this.isInferred = isInferred;
@@ -82,6 +83,11 @@ public abstract class ThingImpl extends ConceptImpl implements Thing {
 
     @Override
     public final String getIID() {
+        return iid.toString();
+    }
+
+    @Override
+    public final IID getRawIID() {
         return iid;
     }
 
@@ -120,21 +126,26 @@ public abstract class ThingImpl extends ConceptImpl implements Thing {
     public abstract static class Remote extends ConceptImpl.Remote implements Thing.Remote {
 
         final TypeDBTransaction.Extended transactionRPC;
-        private final String iid;
+        private final IID iid;
         private final boolean isInferred;
         private final int hash;
 
-        Remote(TypeDBTransaction transaction, String iid, boolean isInferred) {
+        Remote(TypeDBTransaction transaction, IID iid, boolean isInferred) {
             if (transaction == null) throw new TypeDBClientException(MISSING_TRANSACTION);
             this.transactionRPC = (TypeDBTransaction.Extended) transaction;
             if (iid == null || iid.isEmpty()) throw new TypeDBClientException(MISSING_IID);
             this.iid = iid;
             this.isInferred = isInferred;
-            this.hash = Objects.hash(this.transactionRPC, this.getIID());
+            this.hash = Objects.hash(this.transactionRPC, this.iid);
         }
 
         @Override
         public final String getIID() {
+            return iid.toString();
+        }
+
+        @Override
+        public final IID getRawIID() {
             return iid;
         }
 
@@ -148,7 +159,7 @@ public abstract class ThingImpl extends ConceptImpl implements Thing {
 
         @Override
         public final Stream<AttributeImpl<?>> getHas(AttributeType... attributeTypes) {
-            return stream(getHasReq(getIID(), protoTypes(asList(attributeTypes))))
+            return stream(getHasReq(getRawIID(), protoTypes(asList(attributeTypes))))
                     .flatMap(rp -> rp.getThingGetHasResPart().getAttributesList().stream())
                     .map(AttributeImpl::of);
         }
@@ -185,43 +196,43 @@ public abstract class ThingImpl extends ConceptImpl implements Thing {
 
         @Override
         public final Stream<AttributeImpl<?>> getHas(Set<TypeQLToken.Annotation> annotations) {
-            return stream(getHasReq(getIID(), protoAnnotations(annotations)))
+            return stream(getHasReq(getRawIID(), protoAnnotations(annotations)))
                     .flatMap(rp -> rp.getThingGetHasResPart().getAttributesList().stream())
                     .map(AttributeImpl::of);
         }
 
         @Override
         public final Stream<RelationImpl> getRelations(RoleType... roleTypes) {
-            return stream(getRelationsReq(getIID(), protoTypes(asList(roleTypes))))
+            return stream(getRelationsReq(getRawIID(), protoTypes(asList(roleTypes))))
                     .flatMap(rp -> rp.getThingGetRelationsResPart().getRelationsList().stream())
                     .map(RelationImpl::of);
         }
 
         @Override
         public final Stream<RoleTypeImpl> getPlaying() {
-            return stream(getPlayingReq(getIID()))
+            return stream(getPlayingReq(getRawIID()))
                     .flatMap(rp -> rp.getThingGetPlayingResPart().getRoleTypesList().stream())
                     .map(RoleTypeImpl::of);
         }
 
         @Override
         public final void setHas(Attribute<?> attribute) {
-            execute(setHasReq(getIID(), protoThing(attribute.getIID())));
+            execute(setHasReq(getRawIID(), protoThing(attribute.getRawIID())));
         }
 
         @Override
         public final void unsetHas(Attribute<?> attribute) {
-            execute(unsetHasReq(getIID(), protoThing(attribute.getIID())));
+            execute(unsetHasReq(getRawIID(), protoThing(attribute.getRawIID())));
         }
 
         @Override
         public final void delete() {
-            execute(deleteReq(getIID()));
+            execute(deleteReq(getRawIID()));
         }
 
         @Override
         public final boolean isDeleted() {
-            return transactionRPC.concepts().getThing(getIID()) == null;
+            return transactionRPC.concepts().getThing(getRawIID()) == null;
         }
 
         @Override
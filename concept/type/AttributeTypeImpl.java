@@ -60,23 +60,22 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
     }
 
     public static AttributeTypeImpl of(ConceptProto.Type proto) {
-        Label label = Label.of(proto.getLabel());
-        boolean isRoot = proto.getIsRoot();
-        boolean isAbstract = proto.getIsAbstract();
         switch (proto.getValueType()) {
             case BOOLEAN:
-                return new AttributeTypeImpl.Boolean(label, isRoot, isAbstract);
+                return AttributeTypeImpl.Boolean.of(proto);
             case LONG:
-                return new AttributeTypeImpl.Long(label, isRoot, isAbstract);
+                return AttributeTypeImpl.Long.of(proto);
             case DOUBLE:
-                return new AttributeTypeImpl.Double(label, isRoot, isAbstract);
+                return AttributeTypeImpl.Double.of(proto);
             case STRING:
-                return new AttributeTypeImpl.String(label, isRoot, isAbstract);
+                return AttributeTypeImpl.String.of(proto);
             case DATETIME:
-                return new AttributeTypeImpl.DateTime(label, isRoot, isAbstract);
+                return AttributeTypeImpl.DateTime.of(proto);
             case OBJECT:
-                assert isRoot;
-                return new AttributeTypeImpl(label, isRoot, isAbstract);
+                assert proto.getIsRoot();
+                return InternedTypes.intern(proto, AttributeTypeImpl.class, p -> new AttributeTypeImpl(
+                        Label.of(p.getLabel()), p.getIsRoot(), p.getIsAbstract()
+                ));
             case UNRECOGNIZED:
             default:
                 throw new TypeDBClientException(BAD_VALUE_TYPE, proto.getValueType());
@@ -280,7 +279,9 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
         }
 
         public static AttributeTypeImpl.Boolean of(ConceptProto.Type proto) {
-            return new AttributeTypeImpl.Boolean(Label.of(proto.getLabel()), proto.getIsRoot(), proto.getIsAbstract());
+            return InternedTypes.intern(proto, AttributeTypeImpl.Boolean.class, p -> new AttributeTypeImpl.Boolean(
+                    Label.of(p.getLabel()), p.getIsRoot(), p.getIsAbstract()
+            ));
         }
 
         @Override
@@ -355,7 +356,9 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
         }
 
         public static AttributeTypeImpl.Long of(ConceptProto.Type proto) {
-            return new AttributeTypeImpl.Long(Label.of(proto.getLabel()), proto.getIsRoot(), proto.getIsAbstract());
+            return InternedTypes.intern(proto, AttributeTypeImpl.Long.class, p -> new AttributeTypeImpl.Long(
+                    Label.of(p.getLabel()), p.getIsRoot(), p.getIsAbstract()
+            ));
         }
 
         @Override
@@ -430,7 +433,9 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
         }
 
         public static AttributeTypeImpl.Double of(ConceptProto.Type proto) {
-            return new AttributeTypeImpl.Double(Label.of(proto.getLabel()), proto.getIsRoot(), proto.getIsAbstract());
+            return InternedTypes.intern(proto, AttributeTypeImpl.Double.class, p -> new AttributeTypeImpl.Double(
+                    Label.of(p.getLabel()), p.getIsRoot(), p.getIsAbstract()
+            ));
         }
 
         @Override
@@ -505,7 +510,9 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
         }
 
         public static AttributeTypeImpl.String of(ConceptProto.Type proto) {
-            return new AttributeTypeImpl.String(Label.of(proto.getLabel()), proto.getIsRoot(), proto.getIsAbstract());
+            return InternedTypes.intern(proto, AttributeTypeImpl.String.class, p -> new AttributeTypeImpl.String(
+                    Label.of(p.getLabel()), p.getIsRoot(), p.getIsAbstract()
+            ));
         }
 
         @Override
@@ -594,7 +601,9 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
         }
 
         public static AttributeTypeImpl.DateTime of(ConceptProto.Type proto) {
-            return new AttributeTypeImpl.DateTime(Label.of(proto.getLabel()), proto.getIsRoot(), proto.getIsAbstract());
+            return InternedTypes.intern(proto, AttributeTypeImpl.DateTime.class, p -> new AttributeTypeImpl.DateTime(
+                    Label.of(p.getLabel()), p.getIsRoot(), p.getIsAbstract()
+            ));
         }
 
         @Override
@@ -39,7 +39,7 @@ public class EntityTypeImpl extends ThingTypeImpl implements EntityType {
     }
 
     public static EntityTypeImpl of(ConceptProto.Type proto) {
-        return new EntityTypeImpl(Label.of(proto.getLabel()), proto.getIsRoot(), proto.getIsAbstract());
+        return InternedTypes.intern(proto, EntityTypeImpl.class, p -> new EntityTypeImpl(Label.of(p.getLabel()), p.getIsRoot(), p.getIsAbstract()));
     }
 
     @Override
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.concept.type;
+
+import com.vaticle.typedb.protocol.ConceptProto;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Canonical instances of the types seen in decoded answers. An entry is identified by everything the client reads
+// from the type proto, so a changed schema can only produce new entries, never return a stale one. Schema commits
+// clear the table to drop types that no longer exist.
+public class InternedTypes {
+
+    private static final int MAX_LABELS = 4096;
+    private static final ConcurrentHashMap<String, TypeImpl[]> TYPES = new ConcurrentHashMap<>();
+
+    static <T extends TypeImpl> T intern(ConceptProto.Type proto, Class<T> typeClass,
+                                         Function<ConceptProto.Type, T> constructor) {
+        TypeImpl[] candidates = TYPES.get(proto.getLabel());
+        if (candidates != null) {
+            for (TypeImpl candidate : candidates) {
+                if (matches(candidate, proto, typeClass)) return typeClass.cast(candidate);
+            }
+        }
+        if (TYPES.size() >= MAX_LABELS) TYPES.clear();
+        T type = constructor.apply(proto);
+        TypeImpl[] interned = TYPES.compute(proto.getLabel(), (label, existing) -> {
+            if (existing == null) return new TypeImpl[]{type};
+            for (TypeImpl candidate : existing) {
+                if (matches(candidate, proto, typeClass)) return existing;
+            }
+            TypeImpl[] extended = Arrays.copyOf(existing, existing.length + 1);
+            extended[existing.length] = type;
+            return extended;
+        });
+        for (TypeImpl candidate : interned) {
+            if (matches(candidate, proto, typeClass)) return typeClass.cast(candidate);
+        }
+        return type;
+    }
+
+    private static boolean matches(TypeImpl type, ConceptProto.Type proto, Class<?> typeClass) {
+        return type.getClass() == typeClass && type.isRoot() == proto.getIsRoot()
+                && type.isAbstract() == proto.getIsAbstract()
+                && (!type.isRoleType() || type.getLabel().scope().orElse("").equals(proto.getScope()));
+    }
+
+    public static void invalidate() {
+        TYPES.clear();
+    }
+}
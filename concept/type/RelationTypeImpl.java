@@ -46,7 +46,7 @@ public class RelationTypeImpl extends ThingTypeImpl implements RelationType {
     }
 
     public static RelationTypeImpl of(ConceptProto.Type proto) {
-        return new RelationTypeImpl(Label.of(proto.getLabel()), proto.getIsRoot(), proto.getIsAbstract());
+        return InternedTypes.intern(proto, RelationTypeImpl.class, p -> new RelationTypeImpl(Label.of(p.getLabel()), p.getIsRoot(), p.getIsAbstract()));
     }
 
     @Override
@@ -48,11 +48,11 @@ public class RoleTypeImpl extends TypeImpl implements RoleType {
     }
 
     public static RoleTypeImpl of(ConceptProto.Type proto) {
-        return new RoleTypeImpl(
-                Label.of(proto.getScope(), proto.getLabel()),
-                proto.getIsRoot(),
-                proto.getIsAbstract()
-        );
+        return InternedTypes.intern(proto, RoleTypeImpl.class, p -> new RoleTypeImpl(
+                Label.of(p.getScope(), p.getLabel()),
+                p.getIsRoot(),
+                p.getIsAbstract()
+        ));
     }
 
     public static ConceptProto.Type protoRoleType(RoleType roleType) {
@@ -71,7 +71,7 @@ public class ThingTypeImpl extends TypeImpl implements ThingType {
                 return AttributeTypeImpl.of(proto);
             case THING_TYPE:
                 assert proto.getIsRoot();
-                return new ThingTypeImpl(Label.of(proto.getLabel()), proto.getIsRoot(), proto.getIsAbstract());
+                return InternedTypes.intern(proto, ThingTypeImpl.class, p -> new ThingTypeImpl(Label.of(p.getLabel()), p.getIsRoot(), p.getIsAbstract()));
             case UNRECOGNIZED:
             default:
                 throw new TypeDBClientException(BAD_ENCODING, proto.getEncoding());
@@ -39,12 +39,10 @@ import static com.vaticle.typedb.common.util.Objects.className;
 
 public abstract class ValueImpl<VALUE> extends ConceptImpl implements Value<VALUE> {
 
-    protected final VALUE value;
     private final ValueType valueType;
 
-    public ValueImpl(ValueType valueType, VALUE value) {
+    ValueImpl(ValueType valueType) {
         this.valueType = valueType;
-        this.value = value;
     }
 
     public static ValueImpl<?> of(ConceptProto.Value valueProto) {
@@ -81,9 +79,7 @@ public abstract class ValueImpl<VALUE> extends ConceptImpl implements Value<VALU
     }
 
     @Override
-    public VALUE getValue() {
-        return this.value;
-    }
+    public abstract VALUE getValue();
 
     @Override
     public Value<java.lang.Boolean> asBoolean() {
@@ -111,64 +107,119 @@ public abstract class ValueImpl<VALUE> extends ConceptImpl implements Value<VALU
     }
 
     public static class Boolean extends ValueImpl<java.lang.Boolean> implements Value.Boolean {
-        public Boolean(ValueType valueType, java.lang.Boolean value) {
-            super(valueType, value);
+
+        private final boolean value;
+
+        public Boolean(ValueType valueType, boolean value) {
+            super(valueType);
+            this.value = value;
         }
 
         public static ValueImpl.Boolean of(ConceptProto.Value valueProto) {
             return new ValueImpl.Boolean(ValueType.of(valueProto.getValueType()), valueProto.getValue().getBoolean());
         }
 
+        @Override
+        public java.lang.Boolean getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean booleanValue() {
+            return value;
+        }
+
         public ValueImpl.Boolean asBoolean() {
             return this;
         }
     }
 
     public static class Long extends ValueImpl<java.lang.Long> implements Value.Long {
-        public Long(ValueType valueType, java.lang.Long value) {
-            super(valueType, value);
+
+        private final long value;
+
+        public Long(ValueType valueType, long value) {
+            super(valueType);
+            this.value = value;
         }
 
         public static ValueImpl.Long of(ConceptProto.Value valueProto) {
             return new ValueImpl.Long(ValueType.of(valueProto.getValueType()), valueProto.getValue().getLong());
         }
 
+        @Override
+        public java.lang.Long getValue() {
+            return value;
+        }
+
+        @Override
+        public long longValue() {
+            return value;
+        }
+
         public ValueImpl.Long asLong() {
             return this;
         }
     }
 
     public static class Double extends ValueImpl<java.lang.Double> implements Value.Double {
-        public Double(ValueType valueType, java.lang.Double value) {
-            super(valueType, value);
+
+        private final double value;
+
+        public Double(ValueType valueType, double value) {
+            super(valueType);
+            this.value = value;
         }
 
         public static ValueImpl.Double of(ConceptProto.Value valueProto) {
             return new ValueImpl.Double(ValueType.of(valueProto.getValueType()), valueProto.getValue().getDouble());
         }
 
+        @Override
+        public java.lang.Double getValue() {
+            return value;
+        }
+
+        @Override
+        public double doubleValue() {
+            return value;
+        }
+
         public ValueImpl.Double asDouble() {
             return this;
         }
     }
 
     public static class String extends ValueImpl<java.lang.String> implements Value.String {
+
+        private final java.lang.String value;
+
         public String(ValueType valueType, java.lang.String value) {
-            super(valueType, value);
+            super(valueType);
+            this.value = value;
         }
 
         public static ValueImpl.String of(ConceptProto.Value valueProto) {
             return new ValueImpl.String(ValueType.of(valueProto.getValueType()), valueProto.getValue().getString());
         }
 
+        @Override
+        public java.lang.String getValue() {
+            return value;
+        }
+
         public ValueImpl.String asString() {
             return this;
         }
     }
 
     public static class DateTime extends ValueImpl<LocalDateTime> implements Value.DateTime {
+
+        private final LocalDateTime value;
+
         public DateTime(ValueType valueType, LocalDateTime value) {
-            super(valueType, value);
+            super(valueType);
+            this.value = value;
         }
 
         public static ValueImpl.DateTime of(ConceptProto.Value valueProto) {
@@ -178,6 +229,11 @@ public abstract class ValueImpl<VALUE> extends ConceptImpl implements Value<VALU
             );
         }
 
+        @Override
+        public LocalDateTime getValue() {
+            return value;
+        }
+
         public ValueImpl.DateTime asDateTime() {
             return this;
         }
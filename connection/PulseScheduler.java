@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.connection;
+
+import com.vaticle.typedb.client.stream.ThreadMode;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+// Drives the pulses of every session of a client from one thread. Each session starts at a random offset within the
+// interval, so that the pulses of sessions opened together are spread out rather than sent in the same instant.
+// Blocking work triggered by a pulse, such as closing a dead session, goes to a second thread so that it never delays
+// the pulses of the other sessions
+public class PulseScheduler {
+
+    private static final String TYPEDB_CLIENT_PULSE_THREAD_NAME = "typedb-client-pulse";
+    private static final String TYPEDB_CLIENT_PULSE_BLOCKING_THREAD_NAME = "typedb-client-pulse-blocking";
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final ExecutorService blockingExecutor;
+
+    public PulseScheduler(ThreadMode threadMode) {
+        executor = new ScheduledThreadPoolExecutor(1, threadMode.threadFactory(TYPEDB_CLIENT_PULSE_THREAD_NAME));
+        executor.setRemoveOnCancelPolicy(true);
+        blockingExecutor = Executors.newSingleThreadExecutor(threadMode.threadFactory(TYPEDB_CLIENT_PULSE_BLOCKING_THREAD_NAME));
+    }
+
+    ScheduledFuture<?> schedule(Runnable pulse, long intervalMillis) {
+        long offset = ThreadLocalRandom.current().nextLong(intervalMillis);
+        return executor.scheduleAtFixedRate(pulse, offset, intervalMillis, MILLISECONDS);
+    }
+
+    // For periodic work that blocks: the schedule is kept by the pulse thread, the work is run on the blocking thread
+    ScheduledFuture<?> scheduleBlocking(Runnable task, long intervalMillis) {
+        return schedule(() -> blockingExecutor.execute(task), intervalMillis);
+    }
+
+    Executor blockingExecutor() {
+        return blockingExecutor;
+    }
+
+    public void close() {
+        executor.shutdownNow();
+        blockingExecutor.shutdown();
+    }
+}
@@ -25,18 +25,26 @@ import com.google.protobuf.ByteString;
 import com.vaticle.typedb.client.api.TypeDBClient;
 import com.vaticle.typedb.client.api.TypeDBOptions;
 import com.vaticle.typedb.client.api.TypeDBSession;
+import com.vaticle.typedb.client.api.TypeDBSessionPool;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.common.rpc.TypeDBStub;
+import com.vaticle.typedb.client.stream.BufferedBytes;
+import com.vaticle.typedb.client.stream.FlushPolicy;
+import com.vaticle.typedb.client.stream.LatencyEstimator;
 import com.vaticle.typedb.client.stream.RequestTransmitter;
-import com.vaticle.typedb.common.concurrent.NamedThreadFactory;
+import com.vaticle.typedb.client.stream.ThreadMode;
 import io.grpc.ManagedChannel;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.CLIENT_CLOSED;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.CLIENT_CONNECTION_NOT_VALIDATED;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.NEGATIVE_VALUE_NOT_ALLOWED;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.ILLEGAL_CAST;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Connection.openReq;
 import static com.vaticle.typedb.common.util.Objects.className;
@@ -44,15 +52,33 @@ import static com.vaticle.typedb.common.util.Objects.className;
 public abstract class TypeDBClientImpl implements TypeDBClient {
 
     private static final String TYPEDB_CLIENT_RPC_THREAD_NAME = "typedb-client-rpc";
+    private static final String TYPEDB_CLIENT_ASYNC_THREAD_NAME = "typedb-client-async";
+    public static final long DEFAULT_RESPONSE_BUFFER_BYTES = 256 * 1024 * 1024;
 
     private final RequestTransmitter transmitter;
+    private final PulseScheduler pulseScheduler;
+    private final ExecutorService asyncExecutor;
+    private final BufferedBytes responseBuffer;
+    private final long responseBufferLimitBytes;
+    private final LatencyEstimator latency;
     private final TypeDBDatabaseManagerImpl databaseMgr;
     private final ConcurrentMap<ByteString, TypeDBSessionImpl> sessions;
     private boolean isConnectionValidated;
 
-    protected TypeDBClientImpl(int parallelisation) {
-        NamedThreadFactory threadFactory = NamedThreadFactory.create(TYPEDB_CLIENT_RPC_THREAD_NAME);
-        transmitter = new RequestTransmitter(parallelisation, threadFactory);
+    protected TypeDBClientImpl(int parallelisation, FlushPolicy flushPolicy, ThreadMode threadMode,
+                               long responseBufferLimitBytes) {
+        if (responseBufferLimitBytes < 1) {
+            throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, responseBufferLimitBytes);
+        }
+        transmitter = new RequestTransmitter(
+                parallelisation, threadMode.threadFactory(TYPEDB_CLIENT_RPC_THREAD_NAME), flushPolicy
+        );
+        pulseScheduler = new PulseScheduler(threadMode);
+        // unbounded, so that dependent stages of async answers may block without starving one another
+        asyncExecutor = Executors.newCachedThreadPool(threadMode.threadFactory(TYPEDB_CLIENT_ASYNC_THREAD_NAME));
+        responseBuffer = new BufferedBytes();
+        this.responseBufferLimitBytes = responseBufferLimitBytes;
+        latency = new LatencyEstimator();
         databaseMgr = new TypeDBDatabaseManagerImpl(this);
         sessions = new ConcurrentHashMap<>();
         isConnectionValidated = false;
@@ -98,6 +124,11 @@ public abstract class TypeDBClientImpl implements TypeDBClient {
         return session;
     }
 
+    @Override
+    public TypeDBSessionPool sessionPool(int minSize, int maxSize, int idleTimeoutMillis) {
+        return new TypeDBSessionPoolImpl(this, pulseScheduler, minSize, maxSize, idleTimeoutMillis);
+    }
+
     @Override
     public TypeDBDatabaseManagerImpl databases() {
         return databaseMgr;
@@ -121,6 +152,40 @@ public abstract class TypeDBClientImpl implements TypeDBClient {
         return transmitter;
     }
 
+    PulseScheduler pulseScheduler() {
+        return pulseScheduler;
+    }
+
+    Executor asyncExecutor() {
+        return asyncExecutor;
+    }
+
+    BufferedBytes responseBuffer() {
+        return responseBuffer;
+    }
+
+    long responseBufferLimitBytes() {
+        return responseBufferLimitBytes;
+    }
+
+    public long bufferedResponseBytes() {
+        return responseBuffer.get();
+    }
+
+    LatencyEstimator latency() {
+        return latency;
+    }
+
+    @Override
+    public double networkLatencyMillis() {
+        return latency.millis();
+    }
+
+    @Override
+    public double networkLatencyDeviationMillis() {
+        return latency.deviationMillis();
+    }
+
     void removeSession(TypeDBSessionImpl session) {
         sessions.remove(session.id());
     }
@@ -132,6 +197,8 @@ public abstract class TypeDBClientImpl implements TypeDBClient {
                 sessions.values().forEach(TypeDBSessionImpl::close);
                 channel().shutdown().awaitTermination(10, TimeUnit.SECONDS);
                 transmitter.close();
+                pulseScheduler.close();
+                asyncExecutor.shutdown();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
@@ -25,18 +25,20 @@ import com.google.protobuf.ByteString;
 import com.vaticle.typedb.client.api.TypeDBOptions;
 import com.vaticle.typedb.client.api.TypeDBSession;
 import com.vaticle.typedb.client.api.TypeDBTransaction;
+import com.vaticle.typedb.client.api.TypeDBTransactionPool;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.common.rpc.TypeDBStub;
+import com.vaticle.typedb.client.stream.BufferedBytes;
 import com.vaticle.typedb.client.stream.RequestTransmitter;
 import com.vaticle.typedb.common.collection.ConcurrentSet;
 import com.vaticle.typedb.protocol.SessionProto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.Duration;
-import java.time.Instant;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.StampedLock;
@@ -57,31 +59,27 @@ public class TypeDBSessionImpl implements TypeDBSession {
     private final ConcurrentSet<TypeDBTransaction.Extended> transactions;
     private final Type type;
     private final TypeDBOptions options;
-    private final Timer pulse;
+    private final ScheduledFuture<?> pulse;
     private final ReadWriteLock accessLock;
     private final AtomicBoolean isOpen;
-    private final int networkLatencyMillis;
     private Runnable onClose;
 
     public TypeDBSessionImpl(TypeDBClientImpl client, String database, Type type, TypeDBOptions options) {
         this.client = client;
         this.type = type;
         this.options = options;
-        Instant startTime = Instant.now();
+        long startNanos = System.nanoTime();
         SessionProto.Session.Open.Res res = client.stub().sessionOpen(
                 openReq(database, type.proto(), options.proto())
         );
-        Instant endTime = Instant.now();
+        long serverNanos = TimeUnit.MILLISECONDS.toNanos(res.getServerDurationMillis());
+        client.latency().record(Math.max(System.nanoTime() - startNanos - serverNanos, 0));
         this.database = new TypeDBDatabaseImpl(client.databases(), database);
-        networkLatencyMillis = Math.max(
-                (int) (Duration.between(startTime, endTime).toMillis() - res.getServerDurationMillis()), 1
-        );
         sessionID = res.getSessionId();
         transactions = new ConcurrentSet<>();
         accessLock = new StampedLock().asReadWriteLock();
         isOpen = new AtomicBoolean(true);
-        pulse = new Timer();
-        pulse.scheduleAtFixedRate(this.new PulseTask(), 0, PULSE_INTERVAL_MILLIS);
+        pulse = client.pulseScheduler().schedule(this::pulse, PULSE_INTERVAL_MILLIS);
     }
 
     @Override
@@ -122,6 +120,16 @@ public class TypeDBSessionImpl implements TypeDBSession {
         }
     }
 
+    @Override
+    public TypeDBTransactionPool transactionPool(int size) {
+        return transactionPool(size, TypeDBOptions.core());
+    }
+
+    @Override
+    public TypeDBTransactionPool transactionPool(int size, TypeDBOptions options) {
+        return new TypeDBTransactionPoolImpl(this, size, options);
+    }
+
     ByteString id() {
         return sessionID;
     }
@@ -134,8 +142,20 @@ public class TypeDBSessionImpl implements TypeDBSession {
         return client.transmitter();
     }
 
+    BufferedBytes responseBuffer() {
+        return client.responseBuffer();
+    }
+
+    Executor asyncExecutor() {
+        return client.asyncExecutor();
+    }
+
+    long responseBufferLimitBytes() {
+        return client.responseBufferLimitBytes();
+    }
+
     int networkLatencyMillis() {
-        return networkLatencyMillis;
+        return client.latency().estimateMillis();
     }
 
     @Override
@@ -151,7 +171,7 @@ public class TypeDBSessionImpl implements TypeDBSession {
                 if (onClose != null) onClose.run();
                 transactions.forEach(TypeDBTransaction.Extended::close);
                 client.removeSession(this);
-                pulse.cancel();
+                pulse.cancel(false);
                 stub().sessionClose(closeReq(sessionID));
             } catch (TypeDBClientException e) {
                 // Most likely the session is already closed or the server is no longer running.
@@ -165,19 +185,30 @@ public class TypeDBSessionImpl implements TypeDBSession {
         transactions.remove(typeDBTransaction);
     }
 
-    private class PulseTask extends TimerTask {
+    // Sent without waiting for the response, so one scheduler thread keeps every session of the client alive.
+    // Each answered pulse is also a round trip sample for the latency estimate: the server does next to no work for
+    // a pulse, so it is timed as it completes. Closing sends a blocking request, so a dead session is closed on the
+    // scheduler's blocking thread rather than on the pulse or gRPC callback thread.
+    private void pulse() {
+        if (!isOpen()) return;
+        try {
+            long startNanos = System.nanoTime();
+            stub().sessionPulseAsync(pulseReq(sessionID)).whenComplete((res, error) -> {
+                if (error == null) client.latency().record(System.nanoTime() - startNanos);
+                else LOG.debug("Unable to send session pulse", error);
+                if (error != null || !res.getAlive()) closeAsync();
+            });
+        } catch (TypeDBClientException e) {
+            LOG.debug("Unable to send session pulse", e);
+            closeAsync();
+        }
+    }
 
-        @Override
-        public void run() {
-            if (!isOpen()) return;
-            boolean alive = false;
-            try {
-                alive = stub().sessionPulse(pulseReq(sessionID)).getAlive();
-            } catch (TypeDBClientException e) {
-                LOG.debug("Unable to send session pulse", e);
-            } finally {
-                if (!alive) close();
-            }
+    private void closeAsync() {
+        try {
+            client.pulseScheduler().blockingExecutor().execute(this::close);
+        } catch (RejectedExecutionException e) {
+            // The client is closing, and closes every session itself
         }
     }
 }
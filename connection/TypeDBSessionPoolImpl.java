@@ -0,0 +1,435 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.connection;
+
+import com.vaticle.typedb.client.api.TypeDBClient;
+import com.vaticle.typedb.client.api.TypeDBOptions;
+import com.vaticle.typedb.client.api.TypeDBSession;
+import com.vaticle.typedb.client.api.TypeDBSessionPool;
+import com.vaticle.typedb.client.api.TypeDBTransaction;
+import com.vaticle.typedb.client.api.TypeDBTransactionPool;
+import com.vaticle.typedb.client.api.database.Database;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.common.collection.ConcurrentSet;
+import com.vaticle.typedb.protocol.OptionsProto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.INVALID_POOL_SIZE;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.NEGATIVE_VALUE_NOT_ALLOWED;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.SESSION_CLOSED;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.SESSION_POOL_CLOSED;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.UNEXPECTED_INTERRUPTION;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class TypeDBSessionPoolImpl implements TypeDBSessionPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TypeDBSessionPoolImpl.class);
+
+    private final TypeDBClient client;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+    private final ConcurrentMap<Key, Partition> partitions;
+    private final AtomicBoolean isOpen;
+    private final LongAdder leases;
+    private final LongAdder totalWaitNanos;
+    private final AtomicLong maxWaitNanos;
+    private final ScheduledFuture<?> eviction;
+
+    public TypeDBSessionPoolImpl(TypeDBClient client, PulseScheduler pulseScheduler, int minSize, int maxSize,
+                                 int idleTimeoutMillis) {
+        if (maxSize < 1) throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, maxSize);
+        if (minSize < 0 || minSize > maxSize) throw new TypeDBClientException(INVALID_POOL_SIZE, minSize, maxSize);
+        if (idleTimeoutMillis < 1) throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, idleTimeoutMillis);
+        this.client = client;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.idleTimeoutNanos = MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.partitions = new ConcurrentHashMap<>();
+        this.isOpen = new AtomicBoolean(true);
+        this.leases = new LongAdder();
+        this.totalWaitNanos = new LongAdder();
+        this.maxWaitNanos = new AtomicLong();
+        // partitions that stop getting traffic still have their idle sessions closed, not only those being released to
+        this.eviction = pulseScheduler.scheduleBlocking(
+                () -> partitions.values().forEach(Partition::evictIdle), idleTimeoutMillis
+        );
+    }
+
+    @Override
+    public boolean isOpen() {
+        return isOpen.get();
+    }
+
+    @Override
+    public TypeDBSession lease(String database, TypeDBSession.Type type) {
+        return lease(database, type, client.isCluster() ? TypeDBOptions.cluster() : TypeDBOptions.core());
+    }
+
+    @Override
+    public TypeDBSession lease(String database, TypeDBSession.Type type, TypeDBOptions options) {
+        if (!isOpen.get()) throw new TypeDBClientException(SESSION_POOL_CLOSED);
+        return partitions.computeIfAbsent(new Key(database, type, options), Partition::new).lease();
+    }
+
+    @Override
+    public Metrics metrics() {
+        int open = 0;
+        int leased = 0;
+        for (Partition partition : partitions.values()) {
+            open += partition.open.get();
+            leased += partition.leased.get();
+        }
+        return new MetricsImpl(leases.sum(), totalWaitNanos.sum(), maxWaitNanos.get(), open, leased);
+    }
+
+    @Override
+    public void close() {
+        if (isOpen.compareAndSet(true, false)) {
+            eviction.cancel(false);
+            partitions.values().forEach(Partition::close);
+        }
+    }
+
+    private class Partition {
+
+        private final Key key;
+        private final Semaphore permits;
+        private final BlockingDeque<Pooled> idle;
+        private final AtomicInteger open;
+        private final AtomicInteger leased;
+
+        private Partition(Key key) {
+            this.key = key;
+            this.permits = new Semaphore(maxSize, true);
+            this.idle = new LinkedBlockingDeque<>();
+            this.open = new AtomicInteger();
+            this.leased = new AtomicInteger();
+        }
+
+        private TypeDBSession lease() {
+            long start = System.nanoTime();
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TypeDBClientException(UNEXPECTED_INTERRUPTION);
+            }
+            recordWait(System.nanoTime() - start);
+            Pooled pooled = null;
+            try {
+                Pooled entry;
+                // sessions close themselves when a pulse fails, so an open session is a live one
+                while (pooled == null && (entry = idle.pollFirst()) != null) {
+                    if (entry.session.isOpen()) pooled = entry;
+                    else entry.discard();
+                }
+                if (pooled == null) pooled = openSession();
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            leased.incrementAndGet();
+            Lease lease = new Lease(pooled);
+            topUp();
+            return lease;
+        }
+
+        // Best effort: the lease is already granted, so a failure to open a spare session is left to the next lease
+        private void topUp() {
+            try {
+                while (isOpen.get() && open.get() < minSize) idle.offerLast(openSession().idle());
+            } catch (TypeDBClientException e) {
+                LOG.debug("Unable to open a spare session", e);
+            }
+        }
+
+        private void release(Pooled pooled) {
+            leased.decrementAndGet();
+            if (isOpen.get() && pooled.session.isOpen()) idle.offerFirst(pooled.idle());
+            else pooled.discard();
+            permits.release();
+            evictIdle();
+        }
+
+        // the least recently used sessions sit at the tail, and are closed once idle for too long
+        private void evictIdle() {
+            long now = System.nanoTime();
+            Pooled oldest;
+            while (open.get() > minSize && (oldest = idle.peekLast()) != null
+                    && now - oldest.idleSince > idleTimeoutNanos) {
+                if (idle.removeLastOccurrence(oldest)) oldest.discard();
+            }
+        }
+
+        private Pooled openSession() {
+            TypeDBSession session = client.session(key.database, key.type, key.options);
+            open.incrementAndGet();
+            return new Pooled(this, session);
+        }
+
+        private void close() {
+            Pooled entry;
+            while ((entry = idle.pollFirst()) != null) entry.discard();
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        leases.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private static class Pooled {
+
+        private final Partition partition;
+        private final TypeDBSession session;
+        private final AtomicBoolean isDiscarded;
+        private volatile long idleSince;
+        private volatile Lease lease;
+
+        private Pooled(Partition partition, TypeDBSession session) {
+            this.partition = partition;
+            this.session = session;
+            this.isDiscarded = new AtomicBoolean(false);
+            // A session holds a single close callback, so it is registered once for as long as the session is pooled:
+            // a session that dies while idle leaves the pool at once, and one that dies while leased releases its
+            // current lease, so the permit is not held until the lessee notices
+            session.onClose(() -> {
+                if (partition.idle.remove(this)) discard();
+                Lease current = lease;
+                if (current != null) current.close();
+            });
+        }
+
+        private Pooled idle() {
+            idleSince = System.nanoTime();
+            return this;
+        }
+
+        private void discard() {
+            if (isDiscarded.compareAndSet(false, true)) {
+                partition.open.decrementAndGet();
+                session.close();
+            }
+        }
+    }
+
+    private static class Key {
+
+        private final String database;
+        private final TypeDBSession.Type type;
+        private final TypeDBOptions options;
+        private final OptionsProto.Options optionsProto;
+        private final int hash;
+
+        private Key(String database, TypeDBSession.Type type, TypeDBOptions options) {
+            this.database = database;
+            this.type = type;
+            this.options = options;
+            this.optionsProto = options.proto();
+            this.hash = Objects.hash(database, type, optionsProto, options.isCluster());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            Key that = (Key) obj;
+            return database.equals(that.database) && type == that.type && optionsProto.equals(that.optionsProto)
+                    && options.isCluster() == that.options.isCluster();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static class MetricsImpl implements Metrics {
+
+        private final long leases;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+        private final int open;
+        private final int leased;
+
+        private MetricsImpl(long leases, long totalWaitNanos, long maxWaitNanos, int open, int leased) {
+            this.leases = leases;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+            this.open = open;
+            this.leased = leased;
+        }
+
+        @Override
+        public long leases() {
+            return leases;
+        }
+
+        @Override
+        public long totalWaitNanos() {
+            return totalWaitNanos;
+        }
+
+        @Override
+        public long maxWaitNanos() {
+            return maxWaitNanos;
+        }
+
+        @Override
+        public int open() {
+            return open;
+        }
+
+        @Override
+        public int leased() {
+            return leased;
+        }
+
+        @Override
+        public double utilisation() {
+            return open == 0 ? 0 : (double) leased / open;
+        }
+    }
+
+    private static class Lease implements TypeDBSession {
+
+        private final Pooled pooled;
+        private final TypeDBSession session;
+        private final AtomicBoolean isReleased;
+        private final ConcurrentSet<TypeDBTransaction> transactions;
+        private final ConcurrentSet<TypeDBTransactionPool> transactionPools;
+        private volatile Runnable onClose;
+
+        private Lease(Pooled pooled) {
+            this.pooled = pooled;
+            this.session = pooled.session;
+            this.isReleased = new AtomicBoolean(false);
+            this.transactions = new ConcurrentSet<>();
+            this.transactionPools = new ConcurrentSet<>();
+            pooled.lease = this;
+        }
+
+        private TypeDBSession session() {
+            if (isReleased.get()) throw new TypeDBClientException(SESSION_CLOSED);
+            return session;
+        }
+
+        // Registered before the session is asked, so that a concurrent release either closes it or sees it rejected
+        private <T extends AutoCloseable> T track(ConcurrentSet<T> opened, T resource) {
+            opened.add(resource);
+            if (isReleased.get()) {
+                close(resource);
+                throw new TypeDBClientException(SESSION_CLOSED);
+            }
+            return resource;
+        }
+
+        private TypeDBTransaction track(TypeDBTransaction transaction) {
+            transaction.onClose(error -> transactions.remove(transaction));
+            return track(transactions, transaction);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !isReleased.get() && session.isOpen();
+        }
+
+        @Override
+        public Type type() {
+            return session.type();
+        }
+
+        @Override
+        public Database database() {
+            return session.database();
+        }
+
+        @Override
+        public TypeDBOptions options() {
+            return session.options();
+        }
+
+        @Override
+        public TypeDBTransaction transaction(TypeDBTransaction.Type type) {
+            return track(session().transaction(type));
+        }
+
+        @Override
+        public TypeDBTransaction transaction(TypeDBTransaction.Type type, TypeDBOptions options) {
+            return track(session().transaction(type, options));
+        }
+
+        @Override
+        public TypeDBTransactionPool transactionPool(int size) {
+            return track(transactionPools, session().transactionPool(size));
+        }
+
+        @Override
+        public TypeDBTransactionPool transactionPool(int size, TypeDBOptions options) {
+            return track(transactionPools, session().transactionPool(size, options));
+        }
+
+        // Kept on the lease, as the session outlives it and is leased again
+        @Override
+        public void onClose(Runnable function) {
+            session();
+            onClose = function;
+        }
+
+        // Whatever the lessee opened on the session is closed before the session is handed to the next one
+        @Override
+        public void close() {
+            if (isReleased.compareAndSet(false, true)) {
+                pooled.lease = null;
+                transactionPools.forEach(this::close);
+                transactions.forEach(this::close);
+                Runnable function = onClose;
+                if (function != null) function.run();
+                pooled.partition.release(pooled);
+            }
+        }
+
+        private void close(AutoCloseable resource) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                LOG.debug("Unable to close a resource of a released session lease", e);
+            }
+        }
+    }
+}
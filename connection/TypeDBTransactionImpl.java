@@ -30,34 +30,51 @@ import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.api.query.QueryManager;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.concept.ConceptManagerImpl;
+import com.vaticle.typedb.client.concept.type.InternedTypes;
 import com.vaticle.typedb.client.logic.LogicManagerImpl;
 import com.vaticle.typedb.client.query.QueryManagerImpl;
 import com.vaticle.typedb.client.stream.BidirectionalStream;
+import com.vaticle.typedb.client.stream.BufferBudget;
+import com.vaticle.typedb.protocol.LogicProto;
 import com.vaticle.typedb.protocol.TransactionProto.Transaction.Req;
 import com.vaticle.typedb.protocol.TransactionProto.Transaction.Res;
 import com.vaticle.typedb.protocol.TransactionProto.Transaction.ResPart;
 import io.grpc.StatusRuntimeException;
 
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.TRANSACTION_CLOSED;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.TRANSACTION_CLOSED_WITH_ERRORS;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Transaction.commitReq;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Transaction.openReq;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Transaction.rollbackReq;
+import static java.util.Spliterator.IMMUTABLE;
+import static java.util.Spliterator.ORDERED;
 
 public class TypeDBTransactionImpl implements TypeDBTransaction.Extended {
 
+    private static final int DEFAULT_STREAM_BUFFER_BYTES = 16 * 1024 * 1024;
+    private static final int DEFAULT_READ_AHEAD_BATCHES = 1;
+
     private final TypeDBSessionImpl session;
     private final TypeDBTransaction.Type type;
     private final TypeDBOptions options;
-    private final ConceptManager conceptMgr;
-    private final LogicManager logicMgr;
+    private final ConceptManagerImpl conceptMgr;
+    private final LogicManagerImpl logicMgr;
     private final QueryManager queryMgr;
 
     private final BidirectionalStream bidirectionalStream;
+    private final CompletableFuture<Res> open;
+    private volatile boolean isOpened;
+
     TypeDBTransactionImpl(TypeDBSessionImpl session, ByteString sessionId, Type type, TypeDBOptions options) {
         this.session = session;
         this.type = type;
@@ -65,8 +82,22 @@ public class TypeDBTransactionImpl implements TypeDBTransaction.Extended {
         conceptMgr = new ConceptManagerImpl(this);
         logicMgr = new LogicManagerImpl(this);
         queryMgr = new QueryManagerImpl(this);
-        bidirectionalStream = new BidirectionalStream(session.stub(), session.transmitter());
-        execute(openReq(sessionId, type.proto(), options.proto(), session.networkLatencyMillis()), false);
+        BufferBudget budget = new BufferBudget(
+                session.responseBuffer(),
+                options.streamBufferBytes().orElse(DEFAULT_STREAM_BUFFER_BYTES),
+                session.responseBufferLimitBytes()
+        );
+        bidirectionalStream = new BidirectionalStream(
+                session.stub(), session.transmitter(), budget,
+                options.readAheadBatches().orElse(DEFAULT_READ_AHEAD_BATCHES), session.asyncExecutor()
+        );
+        isOpened = false;
+        // The open request is not awaited: it is batched with the first requests of the transaction, and its
+        // failure is reported by the first result to be read. It carries the latency estimate as of now.
+        open = bidirectionalStream.singleAsync(
+                openReq(sessionId, type.proto(), options.proto(), session.networkLatencyMillis()), true
+        );
+        open.thenRun(() -> isOpened = true);
     }
 
     @Override
@@ -105,29 +136,130 @@ public class TypeDBTransactionImpl implements TypeDBTransaction.Extended {
     }
 
     @Override
-    public Res execute(Req.Builder request) {
-        return execute(request, true);
+    public long bufferedResponseBytes() {
+        return bidirectionalStream.bufferedBytes();
     }
 
-    private Res execute(Req.Builder request, boolean batch) {
-        return query(request, batch).get();
+    @Override
+    public int pendingRequests() {
+        return bidirectionalStream.pendingRequests();
+    }
+
+    @Override
+    public Res execute(Req.Builder request) {
+        return query(request).get();
     }
 
     @Override
     public QueryFuture<Res> query(Req.Builder request) {
-        return query(request, true);
+        beforeSend(request);
+        BidirectionalStream.Single<Res> single = bidirectionalStream.single(request, true);
+        return () -> {
+            awaitOpen();
+            return single.get();
+        };
     }
 
-    private QueryFuture<Res> query(Req.Builder request, boolean batch) {
-        if (!isOpen()) throwTransactionClosed();
-        BidirectionalStream.Single<Res> single = bidirectionalStream.single(request, batch);
-        return single::get;
+    @Override
+    public CompletableFuture<Res> queryAsync(Req.Builder request) {
+        beforeSend(request);
+        CompletableFuture<Res> res = bidirectionalStream.singleAsync(request, true);
+        if (isOpened) return res;
+        else return open.thenCompose(opened -> res);
     }
 
     @Override
     public Stream<ResPart> stream(Req.Builder request) {
+        beforeSend(request);
+        Stream<ResPart> stream = bidirectionalStream.stream(request);
+        if (isOpened) return stream;
+        Spliterator<ResPart> parts = stream.spliterator();
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<ResPart>(Long.MAX_VALUE, ORDERED | IMMUTABLE) {
+            @Override
+            public boolean tryAdvance(Consumer<? super ResPart> action) {
+                awaitOpen();
+                return parts.tryAdvance(action);
+            }
+        }, false).onClose(stream::close);
+    }
+
+    @Override
+    public Flow.Publisher<ResPart> publisher(Req.Builder request) {
         if (!isOpen()) throwTransactionClosed();
-        return bidirectionalStream.stream(request);
+        // The subscription is made on the caller's thread without waiting for the open response: the open request
+        // is sent ahead of this one, and a failure to open closes the stream, which fails the subscription with it
+        return bidirectionalStream.publisher(request, () -> beforeSend(request));
+    }
+
+    void awaitOpen() {
+        if (isOpened) return;
+        try {
+            open.join();
+            isOpened = true;
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RuntimeException) return (RuntimeException) cause;
+        else return new CompletionException(cause);
+    }
+
+    private void beforeSend(Req.Builder request) {
+        if (!isOpen()) throwTransactionClosed();
+        // the cached lookups are dropped before the mutation is sent, so later lookups observe its effect
+        if (session.type().isSchema() && mutatesSchema(request)) {
+            conceptMgr.invalidateCache();
+            logicMgr.invalidateCache();
+        }
+    }
+
+    private static boolean mutatesSchema(Req.Builder request) {
+        switch (request.getReqCase()) {
+            case CONCEPT_MANAGER_REQ:
+                switch (request.getConceptManagerReq().getReqCase()) {
+                    case PUT_ENTITY_TYPE_REQ:
+                    case PUT_RELATION_TYPE_REQ:
+                    case PUT_ATTRIBUTE_TYPE_REQ:
+                        return true;
+                    default:
+                        return false;
+                }
+            case TYPE_REQ:
+                switch (request.getTypeReq().getReqCase()) {
+                    case TYPE_SET_LABEL_REQ:
+                    case TYPE_DELETE_REQ:
+                    case THING_TYPE_SET_ABSTRACT_REQ:
+                    case THING_TYPE_UNSET_ABSTRACT_REQ:
+                        return true;
+                    default:
+                        return false;
+                }
+            case LOGIC_MANAGER_REQ:
+                return request.getLogicManagerReq().getReqCase() == LogicProto.LogicManager.Req.ReqCase.PUT_RULE_REQ;
+            case RULE_REQ:
+                switch (request.getRuleReq().getReqCase()) {
+                    case RULE_SET_LABEL_REQ:
+                    case RULE_DELETE_REQ:
+                        return true;
+                    default:
+                        return false;
+                }
+            case QUERY_MANAGER_REQ:
+                switch (request.getQueryManagerReq().getReqCase()) {
+                    case DEFINE_REQ:
+                    case UNDEFINE_REQ:
+                        return true;
+                    default:
+                        return false;
+                }
+            case ROLLBACK_REQ:
+                return true;
+            default:
+                return false;
+        }
     }
 
     private void throwTransactionClosed() {
@@ -140,6 +272,7 @@ public class TypeDBTransactionImpl implements TypeDBTransaction.Extended {
     public void commit() {
         try {
             execute(commitReq());
+            if (session.type().isSchema()) InternedTypes.invalidate();
         } finally {
             close();
         }
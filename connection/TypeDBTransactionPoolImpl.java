@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.connection;
+
+import com.vaticle.typedb.client.api.TypeDBOptions;
+import com.vaticle.typedb.client.api.TypeDBSession;
+import com.vaticle.typedb.client.api.TypeDBTransaction;
+import com.vaticle.typedb.client.api.TypeDBTransactionPool;
+import com.vaticle.typedb.client.api.concept.ConceptManager;
+import com.vaticle.typedb.client.api.logic.LogicManager;
+import com.vaticle.typedb.client.api.query.QueryManager;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.INVALID_TRANSACTION_POOL_SIZE;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.TRANSACTION_CLOSED;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.TRANSACTION_POOL_CLOSED;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class TypeDBTransactionPoolImpl implements TypeDBTransactionPool {
+
+    private static final int DEFAULT_TRANSACTION_TIMEOUT_MILLIS = 300_000;
+
+    private final TypeDBSession session;
+    private final TypeDBOptions options;
+    private final int size;
+    private final long maxAgeNanos;
+    private final BlockingDeque<Pooled> idle;
+    private final AtomicInteger open;
+    private final AtomicInteger leased;
+    private final AtomicBoolean isOpen;
+
+    public TypeDBTransactionPoolImpl(TypeDBSession session, int size, TypeDBOptions options) {
+        if (size < 1) throw new TypeDBClientException(INVALID_TRANSACTION_POOL_SIZE, size);
+        this.session = session;
+        this.options = options;
+        this.size = size;
+        // transactions are no longer leased past three quarters of their timeout, so every lease is granted with at
+        // least a quarter of the timeout left; a lease held longer than that may still see its transaction expire
+        this.maxAgeNanos = MILLISECONDS.toNanos(options.transactionTimeoutMillis().orElse(DEFAULT_TRANSACTION_TIMEOUT_MILLIS)) / 4 * 3;
+        this.idle = new LinkedBlockingDeque<>();
+        this.open = new AtomicInteger();
+        this.leased = new AtomicInteger();
+        this.isOpen = new AtomicBoolean(true);
+        replenish();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return isOpen.get() && session.isOpen();
+    }
+
+    @Override
+    public TypeDBTransaction lease() {
+        if (!isOpen.get()) throw new TypeDBClientException(TRANSACTION_POOL_CLOSED);
+        Pooled pooled;
+        while ((pooled = idle.pollFirst()) != null && !pooled.isUsable()) pooled.retire();
+        if (pooled == null) {
+            // a lease beyond the pool size is still granted, and its transaction is retired on release
+            open.incrementAndGet();
+            pooled = openReserved();
+        }
+        leased.incrementAndGet();
+        // opens are pipelined, so the replacements cost the caller no round trip
+        replenish();
+        return new Lease(pooled);
+    }
+
+    // A transaction still carrying requests of the previous lessee, such as undrained streams, is retired rather than
+    // handed to the next one, as those requests still hold response buffer budget and continuation credits
+    private void release(Pooled pooled) {
+        leased.decrementAndGet();
+        if (isOpen.get() && pooled.isUsable() && pooled.transaction.pendingRequests() == 0 && open.get() <= size) {
+            idle.offerFirst(pooled);
+        } else {
+            pooled.retire();
+        }
+        replenish();
+    }
+
+    // Slots are reserved on the open count before a transaction is opened, so concurrent leases and releases never
+    // open more than the pool size between them
+    private void replenish() {
+        while (isOpen() && reserve()) idle.offerLast(openReserved());
+    }
+
+    private boolean reserve() {
+        int current;
+        do {
+            current = open.get();
+            if (current >= size) return false;
+        } while (!open.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private Pooled openReserved() {
+        try {
+            return new Pooled();
+        } catch (RuntimeException e) {
+            open.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public int idle() {
+        return idle.size();
+    }
+
+    @Override
+    public int leased() {
+        return leased.get();
+    }
+
+    @Override
+    public void close() {
+        if (isOpen.compareAndSet(true, false)) {
+            Pooled pooled;
+            while ((pooled = idle.pollFirst()) != null) pooled.retire();
+        }
+    }
+
+    private class Pooled {
+
+        private final TypeDBTransaction.Extended transaction;
+        private final long openedAt;
+        private final AtomicBoolean isRetired;
+        private volatile boolean isFailed;
+        private volatile Lease lease;
+
+        private Pooled() {
+            transaction = (TypeDBTransaction.Extended) session.transaction(TypeDBTransaction.Type.READ, options);
+            openedAt = System.nanoTime();
+            isFailed = false;
+            isRetired = new AtomicBoolean(false);
+            transaction.onClose(error -> {
+                if (error != null) isFailed = true;
+                if (idle.remove(this)) retire();
+                Lease current = lease;
+                if (current != null) current.runOnClose(error);
+            });
+        }
+
+        private void retire() {
+            if (isRetired.compareAndSet(false, true)) {
+                open.decrementAndGet();
+                transaction.close();
+            }
+        }
+
+        private boolean isUsable() {
+            return !isFailed && transaction.isOpen() && System.nanoTime() - openedAt < maxAgeNanos;
+        }
+    }
+
+    private class Lease implements TypeDBTransaction {
+
+        private final Pooled pooled;
+        private final AtomicBoolean isReleased;
+        private final ConcurrentLinkedQueue<Consumer<Throwable>> onClose;
+
+        private Lease(Pooled pooled) {
+            this.pooled = pooled;
+            this.isReleased = new AtomicBoolean(false);
+            this.onClose = new ConcurrentLinkedQueue<>();
+            pooled.lease = this;
+        }
+
+        private TypeDBTransaction transaction() {
+            if (isReleased.get()) throw new TypeDBClientException(TRANSACTION_CLOSED);
+            return pooled.transaction;
+        }
+
+        private void runOnClose(@Nullable Throwable error) {
+            Consumer<Throwable> function;
+            while ((function = onClose.poll()) != null) function.accept(error);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !isReleased.get() && pooled.transaction.isOpen();
+        }
+
+        @Override
+        public Type type() {
+            return pooled.transaction.type();
+        }
+
+        @Override
+        public TypeDBOptions options() {
+            return pooled.transaction.options();
+        }
+
+        @Override
+        public ConceptManager concepts() {
+            return transaction().concepts();
+        }
+
+        @Override
+        public LogicManager logic() {
+            return transaction().logic();
+        }
+
+        @Override
+        public QueryManager query() {
+            return transaction().query();
+        }
+
+        // Callbacks stay with the lease, so that they never fire for a later lessee of the same transaction
+        @Override
+        public void onClose(Consumer<Throwable> function) {
+            transaction();
+            onClose.offer(function);
+        }
+
+        @Override
+        public void commit() {
+            transaction().commit();
+        }
+
+        @Override
+        public void rollback() {
+            transaction().rollback();
+        }
+
+        @Override
+        public void close() {
+            if (isReleased.compareAndSet(false, true)) {
+                pooled.lease = null;
+                runOnClose(null);
+                release(pooled);
+            }
+        }
+    }
+}
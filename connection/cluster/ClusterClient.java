@@ -25,9 +25,14 @@ import com.vaticle.typedb.client.api.TypeDBClient;
 import com.vaticle.typedb.client.api.TypeDBCredential;
 import com.vaticle.typedb.client.api.TypeDBOptions;
 import com.vaticle.typedb.client.api.TypeDBSession;
+import com.vaticle.typedb.client.api.TypeDBSessionPool;
 import com.vaticle.typedb.client.api.user.User;
 import com.vaticle.typedb.client.api.user.UserManager;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.connection.PulseScheduler;
+import com.vaticle.typedb.client.connection.TypeDBSessionPoolImpl;
+import com.vaticle.typedb.client.stream.FlushPolicy;
+import com.vaticle.typedb.client.stream.ThreadMode;
 import com.vaticle.typedb.protocol.ClusterDatabaseProto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,12 +45,14 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.CLUSTER_REPLICA_NOT_PRIMARY;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.CLUSTER_UNABLE_TO_CONNECT;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.UNABLE_TO_CONNECT;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.UNEXPECTED_INTERRUPTION;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Cluster.DatabaseManager.getReq;
+import static com.vaticle.typedb.client.connection.TypeDBClientImpl.DEFAULT_RESPONSE_BUFFER_BYTES;
 
 public class ClusterClient implements TypeDBClient.Cluster {
 
@@ -53,10 +60,14 @@ public class ClusterClient implements TypeDBClient.Cluster {
 
     private final TypeDBCredential credential;
     private final int parallelisation;
+    private final FlushPolicy flushPolicy;
+    private final ThreadMode threadMode;
+    private final long responseBufferBytes;
     private final Map<String, ClusterServerClient> clusterServerClients;
     private final ClusterUserManager userMgr;
     private final ClusterDatabaseManager databaseMgr;
     private final ConcurrentMap<String, ClusterDatabase> clusterDatabases;
+    private final PulseScheduler pulseScheduler;
     private boolean isOpen;
 
     public ClusterClient(Set<String> initAddresses, TypeDBCredential credential) {
@@ -64,19 +75,37 @@ public class ClusterClient implements TypeDBClient.Cluster {
     }
 
     public ClusterClient(Set<String> initAddresses, TypeDBCredential credential, int parallelisation) {
+        this(initAddresses, credential, parallelisation, FlushPolicy.adaptive());
+    }
+
+    public ClusterClient(Set<String> initAddresses, TypeDBCredential credential, int parallelisation, FlushPolicy flushPolicy) {
+        this(initAddresses, credential, parallelisation, flushPolicy, ThreadMode.PLATFORM);
+    }
+
+    public ClusterClient(Set<String> initAddresses, TypeDBCredential credential, int parallelisation, FlushPolicy flushPolicy,
+                         ThreadMode threadMode) {
+        this(initAddresses, credential, parallelisation, flushPolicy, threadMode, DEFAULT_RESPONSE_BUFFER_BYTES);
+    }
+
+    public ClusterClient(Set<String> initAddresses, TypeDBCredential credential, int parallelisation, FlushPolicy flushPolicy,
+                         ThreadMode threadMode, long responseBufferBytes) {
         this.credential = credential;
         this.parallelisation = parallelisation;
+        this.flushPolicy = flushPolicy;
+        this.threadMode = threadMode;
+        this.responseBufferBytes = responseBufferBytes;
         Set<String> currAddresses = fetchCurrentAddresses(initAddresses);
         clusterServerClients = createClients(credential, parallelisation, currAddresses);
         userMgr = new ClusterUserManager(this);
         databaseMgr = new ClusterDatabaseManager(this);
         clusterDatabases = new ConcurrentHashMap<>();
+        pulseScheduler = new PulseScheduler(threadMode);
         isOpen = true;
     }
 
     private Set<String> fetchCurrentAddresses(Set<String> servers) {
         for (String server : servers) {
-            try (ClusterServerClient client = new ClusterServerClient(server, credential, parallelisation)) {
+            try (ClusterServerClient client = new ClusterServerClient(server, credential, parallelisation, flushPolicy, threadMode, responseBufferBytes)) {
                 client.validateConnection();
                 return client.servers();
             } catch (TypeDBClientException e) {
@@ -94,7 +123,7 @@ public class ClusterClient implements TypeDBClient.Cluster {
         Map<String, ClusterServerClient> clients = new HashMap<>();
         boolean available = false;
         for (String address : addresses) {
-            ClusterServerClient client = new ClusterServerClient(address, credential, parallelisation);
+            ClusterServerClient client = new ClusterServerClient(address, credential, parallelisation, flushPolicy, threadMode, responseBufferBytes);
             try {
                 client.validateConnection();
                 available = true;
@@ -142,6 +171,11 @@ public class ClusterClient implements TypeDBClient.Cluster {
         }
     }
 
+    @Override
+    public TypeDBSessionPool sessionPool(int minSize, int maxSize, int idleTimeoutMillis) {
+        return new TypeDBSessionPoolImpl(this, pulseScheduler, minSize, maxSize, idleTimeoutMillis);
+    }
+
     private ClusterSession sessionPrimaryReplica(String database, TypeDBSession.Type type, TypeDBOptions.Cluster options) {
         return createFailsafeTask(
                 database,
@@ -156,6 +190,22 @@ public class ClusterClient implements TypeDBClient.Cluster {
         ).runAnyReplica();
     }
 
+    // the mean over the servers that have been sampled, as requests are spread over every server of the cluster
+    @Override
+    public double networkLatencyMillis() {
+        return sampledMean(ClusterServerClient::networkLatencyMillis);
+    }
+
+    @Override
+    public double networkLatencyDeviationMillis() {
+        return sampledMean(ClusterServerClient::networkLatencyDeviationMillis);
+    }
+
+    private double sampledMean(ToDoubleFunction<ClusterServerClient> estimate) {
+        return clusterServerClients.values().stream().filter(client -> client.networkLatencyMillis() > 0)
+                .mapToDouble(estimate).average().orElse(0);
+    }
+
     Map<String, ClusterServerClient> clusterServerClients() {
         return clusterServerClients;
     }
@@ -201,6 +251,7 @@ public class ClusterClient implements TypeDBClient.Cluster {
     @Override
     public void close() {
         clusterServerClients.values().forEach(ClusterServerClient::close);
+        pulseScheduler.close();
         isOpen = false;
     }
 
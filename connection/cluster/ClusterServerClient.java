@@ -24,6 +24,8 @@ package com.vaticle.typedb.client.connection.cluster;
 import com.vaticle.typedb.client.api.TypeDBCredential;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.connection.TypeDBClientImpl;
+import com.vaticle.typedb.client.stream.FlushPolicy;
+import com.vaticle.typedb.client.stream.ThreadMode;
 import com.vaticle.typedb.protocol.ClusterServerProto;
 import io.grpc.ManagedChannel;
 import io.grpc.netty.GrpcSslContexts;
@@ -47,8 +49,9 @@ class ClusterServerClient extends TypeDBClientImpl {
     private final ManagedChannel channel;
     private final ClusterServerStub stub;
 
-    ClusterServerClient(String address, TypeDBCredential credential, int parallelisation) {
-        super(parallelisation);
+    ClusterServerClient(String address, TypeDBCredential credential, int parallelisation, FlushPolicy flushPolicy,
+                        ThreadMode threadMode, long responseBufferBytes) {
+        super(parallelisation, flushPolicy, threadMode, responseBufferBytes);
         this.address = address;
         channel = createManagedChannel(address, credential);
         stub = new ClusterServerStub(channel, credential);
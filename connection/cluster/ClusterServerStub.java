@@ -40,6 +40,8 @@ import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
@@ -54,6 +56,7 @@ public class ClusterServerStub extends TypeDBStub {
     private final TypeDBGrpc.TypeDBBlockingStub blockingStub;
     private final TypeDBGrpc.TypeDBStub asyncStub;
     private final TypeDBClusterGrpc.TypeDBClusterBlockingStub clusterBlockingStub;
+    private final TypeDBClusterGrpc.TypeDBClusterStub clusterAsyncStub;
 
     ClusterServerStub(ManagedChannel channel, TypeDBCredential credential) {
         super();
@@ -62,6 +65,7 @@ public class ClusterServerStub extends TypeDBStub {
         this.blockingStub = TypeDBGrpc.newBlockingStub(channel).withCallCredentials(createCallCredentials());
         this.asyncStub = TypeDBGrpc.newStub(channel).withCallCredentials(createCallCredentials());
         this.clusterBlockingStub = TypeDBClusterGrpc.newBlockingStub(channel).withCallCredentials(createCallCredentials());
+        this.clusterAsyncStub = TypeDBClusterGrpc.newStub(channel).withCallCredentials(createCallCredentials());
         try {
             ClusterUserProto.ClusterUser.Token.Res res = clusterBlockingStub.userToken(tokenReq(this.credential.username()));
             token = res.getToken();
@@ -179,6 +183,11 @@ public class ClusterServerStub extends TypeDBStub {
         return mayRenewToken(() -> blockingStub().sessionPulse(request));
     }
 
+    @Override
+    public CompletableFuture<SessionProto.Session.Pulse.Res> sessionPulseAsync(SessionProto.Session.Pulse.Req request) {
+        return mayRenewTokenAsync(() -> super.sessionPulseAsync(request));
+    }
+
     @Override
     public StreamObserver<TransactionProto.Transaction.Client> transaction(StreamObserver<TransactionProto.Transaction.Server> responseObserver) {
         return mayRenewToken(() -> asyncStub().transaction(responseObserver));
@@ -203,10 +212,8 @@ public class ClusterServerStub extends TypeDBStub {
         try {
             return resilientCall(function);
         } catch (TypeDBClientException e) {
-            if (e.getErrorMessage() != null && e.getErrorMessage().equals(ErrorMessage.Client.CLUSTER_TOKEN_CREDENTIAL_INVALID)) {
-                token = null;
-                ClusterUserProto.ClusterUser.Token.Res res = clusterBlockingStub.userToken(tokenReq(credential.username()));
-                token = res.getToken();
+            if (isTokenInvalid(e)) {
+                renewToken();
                 try {
                     return resilientCall(function);
                 } catch (StatusRuntimeException e2) {
@@ -215,4 +222,35 @@ public class ClusterServerStub extends TypeDBStub {
             } else throw e;
         }
     }
+
+    // The continuation runs on the gRPC callback thread, so the token is renewed with an async call rather than
+    // blocking that thread on a second round trip
+    private <RES> CompletableFuture<RES> mayRenewTokenAsync(Supplier<CompletableFuture<RES>> function) {
+        return function.get().handle((res, error) -> {
+            if (error == null) return CompletableFuture.completedFuture(res);
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (isTokenInvalid(cause)) return renewTokenAsync().thenCompose(renewed -> function.get());
+            CompletableFuture<RES> failed = new CompletableFuture<>();
+            failed.completeExceptionally(cause);
+            return failed;
+        }).thenCompose(future -> future);
+    }
+
+    private static boolean isTokenInvalid(Throwable error) {
+        return error instanceof TypeDBClientException && ((TypeDBClientException) error).getErrorMessage() != null &&
+                ((TypeDBClientException) error).getErrorMessage().equals(ErrorMessage.Client.CLUSTER_TOKEN_CREDENTIAL_INVALID);
+    }
+
+    private void renewToken() {
+        token = null;
+        ClusterUserProto.ClusterUser.Token.Res res = clusterBlockingStub.userToken(tokenReq(credential.username()));
+        token = res.getToken();
+    }
+
+    private CompletableFuture<Void> renewTokenAsync() {
+        token = null;
+        CompletableFuture<ClusterUserProto.ClusterUser.Token.Res> res = new CompletableFuture<>();
+        clusterAsyncStub.userToken(tokenReq(credential.username()), new UnaryObserver<>(res));
+        return res.thenAccept(renewed -> token = renewed.getToken());
+    }
 }
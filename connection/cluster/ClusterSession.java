@@ -24,8 +24,10 @@ package com.vaticle.typedb.client.connection.cluster;
 import com.vaticle.typedb.client.api.TypeDBOptions;
 import com.vaticle.typedb.client.api.TypeDBSession;
 import com.vaticle.typedb.client.api.TypeDBTransaction;
+import com.vaticle.typedb.client.api.TypeDBTransactionPool;
 import com.vaticle.typedb.client.api.database.Database;
 import com.vaticle.typedb.client.connection.TypeDBSessionImpl;
+import com.vaticle.typedb.client.connection.TypeDBTransactionPoolImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,6 +62,16 @@ public class ClusterSession implements TypeDBSession {
         }
     }
 
+    @Override
+    public TypeDBTransactionPool transactionPool(int size) {
+        return transactionPool(size, TypeDBOptions.cluster());
+    }
+
+    @Override
+    public TypeDBTransactionPool transactionPool(int size, TypeDBOptions options) {
+        return new TypeDBTransactionPoolImpl(this, size, options);
+    }
+
     private TypeDBTransaction transactionPrimaryReplica(TypeDBTransaction.Type type, TypeDBOptions options) {
         return transactionFailsafeTask(type, options).runPrimaryReplica();
     }
@@ -23,6 +23,8 @@ package com.vaticle.typedb.client.connection.core;
 
 import com.vaticle.typedb.client.common.rpc.TypeDBStub;
 import com.vaticle.typedb.client.connection.TypeDBClientImpl;
+import com.vaticle.typedb.client.stream.FlushPolicy;
+import com.vaticle.typedb.client.stream.ThreadMode;
 import io.grpc.ManagedChannel;
 import io.grpc.netty.NettyChannelBuilder;
 
@@ -38,7 +40,20 @@ public class CoreClient extends TypeDBClientImpl {
     }
 
     public CoreClient(String address, int parallelisation) {
-        super(parallelisation);
+        this(address, parallelisation, FlushPolicy.adaptive());
+    }
+
+    public CoreClient(String address, int parallelisation, FlushPolicy flushPolicy) {
+        this(address, parallelisation, flushPolicy, ThreadMode.PLATFORM);
+    }
+
+    public CoreClient(String address, int parallelisation, FlushPolicy flushPolicy, ThreadMode threadMode) {
+        this(address, parallelisation, flushPolicy, threadMode, DEFAULT_RESPONSE_BUFFER_BYTES);
+    }
+
+    public CoreClient(String address, int parallelisation, FlushPolicy flushPolicy, ThreadMode threadMode,
+                      long responseBufferBytes) {
+        super(parallelisation, flushPolicy, threadMode, responseBufferBytes);
         channel = NettyChannelBuilder.forTarget(address).usePlaintext().build();
         stub = CoreStub.create(channel);
         validateConnection();
@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.connection;
+
+import com.vaticle.typedb.client.api.TypeDBClient;
+import com.vaticle.typedb.client.api.TypeDBOptions;
+import com.vaticle.typedb.client.api.TypeDBSession;
+import com.vaticle.typedb.client.api.TypeDBSessionPool;
+import com.vaticle.typedb.client.api.TypeDBTransaction;
+import com.vaticle.typedb.client.api.TypeDBTransactionPool;
+import com.vaticle.typedb.client.api.concept.ConceptManager;
+import com.vaticle.typedb.client.api.database.Database;
+import com.vaticle.typedb.client.api.database.DatabaseManager;
+import com.vaticle.typedb.client.api.logic.LogicManager;
+import com.vaticle.typedb.client.api.query.QueryFuture;
+import com.vaticle.typedb.client.api.query.QueryManager;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.protocol.TransactionProto;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.UNABLE_TO_CONNECT;
+
+class FakeClient implements TypeDBClient {
+
+    final List<FakeSession> sessions = new CopyOnWriteArrayList<>();
+    private volatile int allowedOpens = Integer.MAX_VALUE;
+
+    void failOpensAfter(int opens) {
+        allowedOpens = sessions.size() + opens;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return true;
+    }
+
+    @Override
+    public DatabaseManager databases() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public TypeDBSession session(String database, TypeDBSession.Type type) {
+        return session(database, type, TypeDBOptions.core());
+    }
+
+    @Override
+    public TypeDBSession session(String database, TypeDBSession.Type type, TypeDBOptions options) {
+        if (sessions.size() >= allowedOpens) throw new TypeDBClientException(UNABLE_TO_CONNECT);
+        FakeSession session = new FakeSession(type, options);
+        sessions.add(session);
+        return session;
+    }
+
+    @Override
+    public TypeDBSessionPool sessionPool(int minSize, int maxSize, int idleTimeoutMillis) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public double networkLatencyMillis() {
+        return 0;
+    }
+
+    @Override
+    public double networkLatencyDeviationMillis() {
+        return 0;
+    }
+
+    @Override
+    public boolean isCluster() {
+        return false;
+    }
+
+    @Override
+    public Cluster asCluster() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    static class FakeSession implements TypeDBSession {
+
+        private final Type type;
+        private final TypeDBOptions options;
+        final List<FakeTransaction> transactions = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean isOpen = new AtomicBoolean(true);
+        private volatile Runnable onClose;
+
+        private FakeSession(Type type, TypeDBOptions options) {
+            this.type = type;
+            this.options = options;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return isOpen.get();
+        }
+
+        @Override
+        public Type type() {
+            return type;
+        }
+
+        @Override
+        public Database database() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TypeDBOptions options() {
+            return options;
+        }
+
+        @Override
+        public TypeDBTransaction transaction(TypeDBTransaction.Type type) {
+            return transaction(type, options);
+        }
+
+        @Override
+        public TypeDBTransaction transaction(TypeDBTransaction.Type type, TypeDBOptions options) {
+            FakeTransaction transaction = new FakeTransaction(type, options);
+            transactions.add(transaction);
+            return transaction;
+        }
+
+        @Override
+        public TypeDBTransactionPool transactionPool(int size) {
+            return transactionPool(size, options);
+        }
+
+        @Override
+        public TypeDBTransactionPool transactionPool(int size, TypeDBOptions options) {
+            return new TypeDBTransactionPoolImpl(this, size, options);
+        }
+
+        @Override
+        public void onClose(Runnable function) {
+            onClose = function;
+        }
+
+        @Override
+        public void close() {
+            if (isOpen.compareAndSet(true, false)) {
+                Runnable function = onClose;
+                if (function != null) function.run();
+                transactions.forEach(FakeTransaction::close);
+            }
+        }
+    }
+
+    static class FakeTransaction implements TypeDBTransaction.Extended {
+
+        private final Type type;
+        private final TypeDBOptions options;
+        private final List<Consumer<Throwable>> onClose = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean isOpen = new AtomicBoolean(true);
+        private volatile int pendingRequests = 0;
+
+        private FakeTransaction(Type type, TypeDBOptions options) {
+            this.type = type;
+            this.options = options;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return isOpen.get();
+        }
+
+        @Override
+        public Type type() {
+            return type;
+        }
+
+        @Override
+        public TypeDBOptions options() {
+            return options;
+        }
+
+        @Override
+        public ConceptManager concepts() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public LogicManager logic() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public QueryManager query() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void onClose(Consumer<Throwable> function) {
+            onClose.add(function);
+        }
+
+        @Override
+        public void commit() {
+        }
+
+        @Override
+        public void rollback() {
+        }
+
+        @Override
+        public TransactionProto.Transaction.Res execute(TransactionProto.Transaction.Req.Builder request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public QueryFuture<TransactionProto.Transaction.Res> query(TransactionProto.Transaction.Req.Builder request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<TransactionProto.Transaction.Res> queryAsync(TransactionProto.Transaction.Req.Builder request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Stream<TransactionProto.Transaction.ResPart> stream(TransactionProto.Transaction.Req.Builder request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Flow.Publisher<TransactionProto.Transaction.ResPart> publisher(TransactionProto.Transaction.Req.Builder request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long bufferedResponseBytes() {
+            return 0;
+        }
+
+        @Override
+        public int pendingRequests() {
+            return pendingRequests;
+        }
+
+        void pendingRequests(int pendingRequests) {
+            this.pendingRequests = pendingRequests;
+        }
+
+        void closeWithError(Throwable error) {
+            if (isOpen.compareAndSet(true, false)) onClose.forEach(function -> function.accept(error));
+        }
+
+        @Override
+        public void close() {
+            if (isOpen.compareAndSet(true, false)) onClose.forEach(function -> function.accept(null));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+
+package com.vaticle.typedb.client.connection;
+
+import com.vaticle.typedb.client.api.TypeDBSession;
+import com.vaticle.typedb.client.api.TypeDBSessionPool;
+import com.vaticle.typedb.client.api.TypeDBTransaction;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.stream.ThreadMode;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.vaticle.typedb.client.api.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.client.api.TypeDBSession.Type.SCHEMA;
+import static com.vaticle.typedb.client.api.TypeDBTransaction.Type.READ;
+import static com.vaticle.typedb.client.api.TypeDBTransaction.Type.WRITE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TypeDBSessionPoolTest {
+
+    private static final String DATABASE = "typedb";
+    private static final int IDLE_TIMEOUT_MILLIS = 50;
+
+    private final PulseScheduler pulseScheduler = new PulseScheduler(ThreadMode.PLATFORM);
+    private final FakeClient client = new FakeClient();
+
+    @After
+    public void tearDown() {
+        pulseScheduler.close();
+    }
+
+    @Test
+    public void released_lease_rejects_further_use() {
+        try (TypeDBSessionPool pool = new TypeDBSessionPoolImpl(client, pulseScheduler, 0, 1, 60_000)) {
+            TypeDBSession lease = pool.lease(DATABASE, DATA);
+            lease.close();
+            assertFalse(lease.isOpen());
+            assertRejected(() -> lease.transaction(READ));
+            assertRejected(() -> lease.transactionPool(1));
+            assertRejected(() -> lease.onClose(() -> { }));
+        }
+    }
+
+    @Test
+    public void releasing_a_lease_closes_what_the_lessee_opened() {
+        try (TypeDBSessionPool pool = new TypeDBSessionPoolImpl(client, pulseScheduler, 0, 1, 60_000)) {
+            TypeDBSession lease = pool.lease(DATABASE, SCHEMA);
+            TypeDBTransaction transaction = lease.transaction(WRITE);
+            AtomicInteger onClose = new AtomicInteger();
+            lease.onClose(onClose::incrementAndGet);
+            lease.close();
+            assertFalse(transaction.isOpen());
+            assertEquals(1, onClose.get());
+
+            TypeDBSession next = pool.lease(DATABASE, SCHEMA);
+            FakeClient.FakeSession session = client.sessions.get(0);
+            assertEquals(1, client.sessions.size());
+            assertTrue(session.transactions.stream().noneMatch(TypeDBTransaction::isOpen));
+            next.close();
+            assertEquals(1, onClose.get());
+        }
+    }
+
+    @Test
+    public void failed_top_up_keeps_the_granted_lease() {
+        try (TypeDBSessionPool pool = new TypeDBSessionPoolImpl(client, pulseScheduler, 2, 2, 60_000)) {
+            client.failOpensAfter(1);
+            TypeDBSession lease = pool.lease(DATABASE, DATA);
+            assertTrue(lease.isOpen());
+            assertEquals(1, pool.metrics().leased());
+            assertEquals(1, pool.metrics().open());
+            lease.close();
+            assertEquals(0, pool.metrics().leased());
+
+            TypeDBSession again = pool.lease(DATABASE, DATA);
+            assertTrue(again.isOpen());
+            assertEquals(1, client.sessions.size());
+            again.close();
+        }
+    }
+
+    @Test
+    public void idle_sessions_are_evicted_without_further_traffic() throws InterruptedException {
+        try (TypeDBSessionPool pool = new TypeDBSessionPoolImpl(client, pulseScheduler, 0, 1, IDLE_TIMEOUT_MILLIS)) {
+            pool.lease(DATABASE, DATA).close();
+            assertEquals(1, pool.metrics().open());
+            long deadline = System.currentTimeMillis() + 50L * IDLE_TIMEOUT_MILLIS;
+            while (pool.metrics().open() > 0 && System.currentTimeMillis() < deadline) Thread.sleep(IDLE_TIMEOUT_MILLIS / 5);
+            assertEquals(0, pool.metrics().open());
+            assertFalse(client.sessions.get(0).isOpen());
+        }
+    }
+
+    @Test
+    public void session_closed_while_leased_returns_its_permit() {
+        try (TypeDBSessionPool pool = new TypeDBSessionPoolImpl(client, pulseScheduler, 0, 1, 60_000)) {
+            TypeDBSession lease = pool.lease(DATABASE, DATA);
+            client.sessions.get(0).close();
+            assertFalse(lease.isOpen());
+            assertEquals(0, pool.metrics().leased());
+            pool.lease(DATABASE, DATA).close();
+            assertEquals(2, client.sessions.size());
+        }
+    }
+
+    @Test
+    public void session_closed_while_idle_leaves_the_pool() {
+        try (TypeDBSessionPool pool = new TypeDBSessionPoolImpl(client, pulseScheduler, 0, 1, 60_000)) {
+            pool.lease(DATABASE, DATA).close();
+            TypeDBSession lease = pool.lease(DATABASE, DATA);
+            lease.close();
+            assertEquals(1, pool.metrics().open());
+            client.sessions.get(0).close();
+            assertEquals(0, pool.metrics().open());
+            assertFalse(lease.isOpen());
+
+            TypeDBSession next = pool.lease(DATABASE, DATA);
+            assertTrue(next.isOpen());
+            assertEquals(2, client.sessions.size());
+            assertEquals(1, pool.metrics().open());
+            next.close();
+        }
+    }
+
+    private static void assertRejected(Runnable call) {
+        try {
+            call.run();
+            fail();
+        } catch (TypeDBClientException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.connection;
+
+import com.vaticle.typedb.client.api.TypeDBOptions;
+import com.vaticle.typedb.client.api.TypeDBTransaction;
+import com.vaticle.typedb.client.api.TypeDBTransactionPool;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.vaticle.typedb.client.api.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.INVALID_TRANSACTION_POOL_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TypeDBTransactionPoolTest {
+
+    private static final String DATABASE = "typedb";
+
+    private final FakeClient client = new FakeClient();
+    private final FakeClient.FakeSession session = (FakeClient.FakeSession) client.session(DATABASE, DATA);
+
+    @Test
+    public void pool_size_must_be_at_least_one() {
+        try {
+            session.transactionPool(0);
+            fail();
+        } catch (TypeDBClientException e) {
+            assertEquals(INVALID_TRANSACTION_POOL_SIZE, e.getErrorMessage());
+        }
+    }
+
+    @Test
+    public void concurrent_leases_never_leave_more_than_size_open() throws InterruptedException {
+        try (TypeDBTransactionPool pool = session.transactionPool(4)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                Thread thread = new Thread(() -> {
+                    for (int j = 0; j < 1_000; j++) pool.lease().close();
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) thread.join();
+            assertEquals(4, pool.idle());
+            assertEquals(4, session.transactions.stream().filter(TypeDBTransaction::isOpen).count());
+        }
+    }
+
+    @Test
+    public void expired_transactions_are_replaced_on_lease() throws InterruptedException {
+        try (TypeDBTransactionPool pool = session.transactionPool(1, TypeDBOptions.core().transactionTimeoutMillis(40))) {
+            pool.lease().close();
+            Thread.sleep(50);
+            TypeDBTransaction lease = pool.lease();
+            assertEquals(2, session.transactions.size());
+            assertFalse(session.transactions.get(0).isOpen());
+            assertTrue(lease.isOpen());
+            lease.close();
+        }
+    }
+
+    @Test
+    public void transactions_with_pending_requests_are_retired_on_release() {
+        try (TypeDBTransactionPool pool = session.transactionPool(1)) {
+            TypeDBTransaction lease = pool.lease();
+            session.transactions.get(0).pendingRequests(1);
+            lease.close();
+            assertFalse(session.transactions.get(0).isOpen());
+            assertEquals(2, session.transactions.size());
+            assertEquals(1, pool.idle());
+        }
+    }
+
+    @Test
+    public void idle_transactions_closed_with_an_error_are_evicted() {
+        try (TypeDBTransactionPool pool = session.transactionPool(1)) {
+            session.transactions.get(0).closeWithError(new RuntimeException());
+            assertEquals(0, pool.idle());
+            TypeDBTransaction lease = pool.lease();
+            assertTrue(lease.isOpen());
+            assertEquals(2, session.transactions.size());
+            lease.close();
+        }
+    }
+
+    @Test
+    public void released_lease_is_isolated_from_the_next_lessee() {
+        try (TypeDBTransactionPool pool = session.transactionPool(1)) {
+            TypeDBTransaction lease = pool.lease();
+            AtomicInteger onClose = new AtomicInteger();
+            lease.onClose(error -> onClose.incrementAndGet());
+            lease.close();
+            assertEquals(1, onClose.get());
+            assertFalse(lease.isOpen());
+            assertRejected(lease::query);
+            assertRejected(() -> lease.onClose(error -> { }));
+
+            TypeDBTransaction next = pool.lease();
+            AtomicInteger nextOnClose = new AtomicInteger();
+            next.onClose(error -> nextOnClose.incrementAndGet());
+            assertEquals(1, session.transactions.size());
+            session.transactions.get(0).close();
+            assertEquals(1, nextOnClose.get());
+            assertEquals(1, onClose.get());
+            next.close();
+        }
+    }
+
+    private static void assertRejected(Runnable call) {
+        try {
+            call.run();
+            fail();
+        } catch (TypeDBClientException e) {
+            // expected
+        }
+    }
+}
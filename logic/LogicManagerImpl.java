@@ -24,6 +24,7 @@ package com.vaticle.typedb.client.logic;
 import com.vaticle.typedb.client.api.TypeDBTransaction;
 import com.vaticle.typedb.client.api.logic.LogicManager;
 import com.vaticle.typedb.client.api.logic.Rule;
+import com.vaticle.typedb.client.common.collection.LookupCache;
 import com.vaticle.typedb.protocol.LogicProto;
 import com.vaticle.typedb.protocol.TransactionProto;
 import com.vaticle.typeql.lang.pattern.Pattern;
@@ -38,14 +39,21 @@ import static com.vaticle.typedb.client.common.rpc.RequestBuilder.LogicManager.p
 public final class LogicManagerImpl implements LogicManager {
 
     private final TypeDBTransaction.Extended transactionRPC;
+    private final LookupCache<String, Rule> ruleCache;
 
     public LogicManagerImpl(TypeDBTransaction.Extended transactionRPC) {
         this.transactionRPC = transactionRPC;
+        this.ruleCache = new LookupCache<>();
     }
 
     @Override
     @Nullable
     public Rule getRule(String label) {
+        return ruleCache.get(label, this::getRuleRes);
+    }
+
+    @Nullable
+    private Rule getRuleRes(String label) {
         LogicProto.LogicManager.GetRule.Res res = execute(getRuleReq(label)).getGetRuleRes();
         switch (res.getResCase()) {
             case RULE:
@@ -67,6 +75,20 @@ public final class LogicManagerImpl implements LogicManager {
         return RuleImpl.of(res.getPutRuleRes().getRule());
     }
 
+    @Override
+    public long cacheHits() {
+        return ruleCache.hits();
+    }
+
+    @Override
+    public long cacheMisses() {
+        return ruleCache.misses();
+    }
+
+    public void invalidateCache() {
+        ruleCache.invalidate();
+    }
+
     private LogicProto.LogicManager.Res execute(TransactionProto.Transaction.Req.Builder req) {
         return transactionRPC.execute(req).getLogicManagerRes();
     }
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.query;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+class FlatMapPublisher<T, U> implements Flow.Publisher<U> {
+
+    private final Flow.Publisher<T> upstream;
+    private final Function<T, Iterator<U>> mapper;
+
+    FlatMapPublisher(Flow.Publisher<T> upstream, Function<T, Iterator<U>> mapper) {
+        this.upstream = upstream;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super U> subscriber) {
+        upstream.subscribe(new FlatMapSubscriber(subscriber));
+    }
+
+    // Upstream items are requested one at a time, and only once the previous item's elements have been emitted
+    // and the downstream subscriber still has outstanding demand
+    private class FlatMapSubscriber implements Flow.Subscriber<T>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super U> downstream;
+        private final AtomicLong demand;
+        private final AtomicInteger work;
+        private volatile Flow.Subscription subscription;
+        private volatile Iterator<U> current;
+        private volatile boolean isUpstreamRequested;
+        private volatile boolean isCompleted;
+        private volatile boolean isCancelled;
+        private volatile boolean isTerminated;
+        // set by a non-positive request, which is signalled ahead of any answers still pending (rule 3.9)
+        private volatile boolean isProtocolViolated;
+        private volatile Throwable error;
+
+        private FlatMapSubscriber(Flow.Subscriber<? super U> downstream) {
+            this.downstream = downstream;
+            demand = new AtomicLong(0);
+            work = new AtomicInteger(0);
+            current = null;
+            isUpstreamRequested = false;
+            isCompleted = false;
+            isCancelled = false;
+            isTerminated = false;
+            isProtocolViolated = false;
+            error = null;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            try {
+                current = mapper.apply(item);
+            } catch (RuntimeException e) {
+                subscription.cancel();
+                error = e;
+            }
+            isUpstreamRequested = false;
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            isCompleted = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                subscription.cancel();
+                error = new IllegalArgumentException("Subscribers must request a positive number of elements, but requested " + n);
+                isProtocolViolated = true;
+            } else {
+                demand.getAndUpdate(existing -> existing + n < 0 ? Long.MAX_VALUE : existing + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (isCancelled) return;
+            isCancelled = true;
+            subscription.cancel();
+            drain();
+        }
+
+        private void drain() {
+            if (work.getAndIncrement() != 0) return;
+            int missed = 1;
+            do {
+                if (isTerminated) return;
+                if (isCancelled) {
+                    isTerminated = true;
+                    current = null;
+                    return;
+                }
+                long requested = demand.get();
+                long emitted = 0;
+                Iterator<U> iterator = current;
+                while (iterator != null && emitted != requested && iterator.hasNext()) {
+                    downstream.onNext(iterator.next());
+                    emitted++;
+                }
+                if (emitted > 0 && requested != Long.MAX_VALUE) demand.addAndGet(-emitted);
+
+                boolean isExhausted = iterator == null || !iterator.hasNext();
+                Throwable error = this.error;
+                if (error != null && (isExhausted || isProtocolViolated)) {
+                    isTerminated = true;
+                    current = null;
+                    downstream.onError(error);
+                    return;
+                } else if (isExhausted && isCompleted) {
+                    isTerminated = true;
+                    current = null;
+                    downstream.onComplete();
+                    return;
+                } else if (isExhausted && !isUpstreamRequested && demand.get() > 0) {
+                    current = null;
+                    isUpstreamRequested = true;
+                    subscription.request(1);
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
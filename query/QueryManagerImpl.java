@@ -23,6 +23,7 @@ package com.vaticle.typedb.client.query;
 
 import com.vaticle.typedb.client.api.TypeDBOptions;
 import com.vaticle.typedb.client.api.TypeDBTransaction;
+import com.vaticle.typedb.client.api.answer.AnswerBatch;
 import com.vaticle.typedb.client.api.answer.ConceptMap;
 import com.vaticle.typedb.client.api.answer.ConceptMapGroup;
 import com.vaticle.typedb.client.api.answer.Numeric;
@@ -30,11 +31,15 @@ import com.vaticle.typedb.client.api.answer.NumericGroup;
 import com.vaticle.typedb.client.api.logic.Explanation;
 import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.api.query.QueryManager;
+import com.vaticle.typedb.client.api.query.RowMapper;
+import com.vaticle.typedb.client.concept.answer.AnswerBatchImpl;
 import com.vaticle.typedb.client.concept.answer.ConceptMapGroupImpl;
 import com.vaticle.typedb.client.concept.answer.ConceptMapImpl;
 import com.vaticle.typedb.client.concept.answer.NumericGroupImpl;
 import com.vaticle.typedb.client.concept.answer.NumericImpl;
+import com.vaticle.typedb.client.concept.answer.RowImpl;
 import com.vaticle.typedb.client.logic.ExplanationImpl;
+import com.vaticle.typedb.protocol.AnswerProto;
 import com.vaticle.typedb.protocol.QueryProto;
 import com.vaticle.typedb.protocol.TransactionProto;
 import com.vaticle.typeql.lang.query.TypeQLDefine;
@@ -44,6 +49,11 @@ import com.vaticle.typeql.lang.query.TypeQLMatch;
 import com.vaticle.typeql.lang.query.TypeQLUndefine;
 import com.vaticle.typeql.lang.query.TypeQLUpdate;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.QueryManager.defineReq;
@@ -60,9 +70,13 @@ import static com.vaticle.typedb.client.common.rpc.RequestBuilder.QueryManager.u
 public final class QueryManagerImpl implements QueryManager {
 
     private final TypeDBTransaction.Extended transactionExt;
+    private final QueryManager.Async async;
+    private final QueryManager.Reactive reactive;
 
     public QueryManagerImpl(TypeDBTransaction.Extended transactionExt) {
         this.transactionExt = transactionExt;
+        this.async = new Async();
+        this.reactive = new Reactive();
     }
 
     @Override
@@ -84,7 +98,52 @@ public final class QueryManagerImpl implements QueryManager {
     public Stream<ConceptMap> match(String query, TypeDBOptions options) {
         return stream(matchReq(query, options.proto()))
                 .flatMap(rp -> rp.getMatchResPart().getAnswersList().stream())
-                .map(ConceptMapImpl::of);
+                .map(new ConceptMapImpl.Decoder()::decode);
+    }
+
+    @Override
+    public <T> Stream<T> match(TypeQLMatch query, RowMapper<T> mapper) {
+        return match(query.toString(false), mapper);
+    }
+
+    @Override
+    public <T> Stream<T> match(TypeQLMatch query, TypeDBOptions options, RowMapper<T> mapper) {
+        return match(query.toString(false), options, mapper);
+    }
+
+    @Override
+    public <T> Stream<T> match(String query, RowMapper<T> mapper) {
+        return match(query, TypeDBOptions.core(), mapper);
+    }
+
+    @Override
+    public <T> Stream<T> match(String query, TypeDBOptions options, RowMapper<T> mapper) {
+        RowImpl.Decoder decoder = new RowImpl.Decoder();
+        return stream(matchReq(query, options.proto()))
+                .flatMap(rp -> rp.getMatchResPart().getAnswersList().stream())
+                .map(res -> mapper.map(decoder.decode(res)));
+    }
+
+    @Override
+    public Stream<AnswerBatch> matchBatched(TypeQLMatch query) {
+        return matchBatched(query.toString(false));
+    }
+
+    @Override
+    public Stream<AnswerBatch> matchBatched(TypeQLMatch query, TypeDBOptions options) {
+        return matchBatched(query.toString(false), options);
+    }
+
+    @Override
+    public Stream<AnswerBatch> matchBatched(String query) {
+        return matchBatched(query, TypeDBOptions.core());
+    }
+
+    @Override
+    public Stream<AnswerBatch> matchBatched(String query, TypeDBOptions options) {
+        return stream(matchReq(query, options.proto()))
+                .filter(rp -> rp.getMatchResPart().getAnswersCount() > 0)
+                .map(rp -> AnswerBatchImpl.of(rp.getMatchResPart().getAnswersList()));
     }
 
     @Override
@@ -172,7 +231,7 @@ public final class QueryManagerImpl implements QueryManager {
     public Stream<ConceptMap> insert(String query, TypeDBOptions options) {
         return stream(insertReq(query, options.proto()))
                 .flatMap(rp -> rp.getInsertResPart().getAnswersList().stream())
-                .map(ConceptMapImpl::of);
+                .map(new ConceptMapImpl.Decoder()::decode);
     }
 
     @Override
@@ -214,7 +273,7 @@ public final class QueryManagerImpl implements QueryManager {
     public Stream<ConceptMap> update(String query, TypeDBOptions options) {
         return stream(updateReq(query, options.proto()))
                 .flatMap(rp -> rp.getUpdateResPart().getAnswersList().stream())
-                .map(ConceptMapImpl::of);
+                .map(new ConceptMapImpl.Decoder()::decode);
     }
 
     @Override
@@ -269,6 +328,16 @@ public final class QueryManagerImpl implements QueryManager {
                 .map(ExplanationImpl::of);
     }
 
+    @Override
+    public QueryManager.Async async() {
+        return async;
+    }
+
+    @Override
+    public QueryManager.Reactive reactive() {
+        return reactive;
+    }
+
     private QueryFuture<Void> queryVoid(TransactionProto.Transaction.Req.Builder req) {
         return transactionExt.query(req).map(res -> null);
     }
@@ -280,4 +349,174 @@ public final class QueryManagerImpl implements QueryManager {
     private Stream<QueryProto.QueryManager.ResPart> stream(TransactionProto.Transaction.Req.Builder req) {
         return transactionExt.stream(req).map(TransactionProto.Transaction.ResPart::getQueryManagerResPart);
     }
+
+    private final class Async implements QueryManager.Async {
+
+        @Override
+        public CompletableFuture<Numeric> match(TypeQLMatch.Aggregate query) {
+            return matchAggregate(query.toString(false));
+        }
+
+        @Override
+        public CompletableFuture<Numeric> match(TypeQLMatch.Aggregate query, TypeDBOptions options) {
+            return matchAggregate(query.toString(false), options);
+        }
+
+        @Override
+        public CompletableFuture<Numeric> matchAggregate(String query) {
+            return matchAggregate(query, TypeDBOptions.core());
+        }
+
+        @Override
+        public CompletableFuture<Numeric> matchAggregate(String query, TypeDBOptions options) {
+            return query(matchAggregateReq(query, options.proto()))
+                    .thenApply(r -> NumericImpl.of(r.getMatchAggregateRes().getAnswer()));
+        }
+
+        @Override
+        public CompletableFuture<Void> delete(TypeQLDelete query) {
+            return delete(query.toString(false));
+        }
+
+        @Override
+        public CompletableFuture<Void> delete(TypeQLDelete query, TypeDBOptions options) {
+            return delete(query.toString(false), options);
+        }
+
+        @Override
+        public CompletableFuture<Void> delete(String query) {
+            return delete(query, TypeDBOptions.core());
+        }
+
+        @Override
+        public CompletableFuture<Void> delete(String query, TypeDBOptions options) {
+            return queryVoid(deleteReq(query, options.proto()));
+        }
+
+        @Override
+        public CompletableFuture<Void> define(TypeQLDefine query) {
+            return define(query.toString(false));
+        }
+
+        @Override
+        public CompletableFuture<Void> define(TypeQLDefine query, TypeDBOptions options) {
+            return define(query.toString(false), options);
+        }
+
+        @Override
+        public CompletableFuture<Void> define(String query) {
+            return define(query, TypeDBOptions.core());
+        }
+
+        @Override
+        public CompletableFuture<Void> define(String query, TypeDBOptions options) {
+            return queryVoid(defineReq(query, options.proto()));
+        }
+
+        @Override
+        public CompletableFuture<Void> undefine(TypeQLUndefine query) {
+            return undefine(query.toString(false));
+        }
+
+        @Override
+        public CompletableFuture<Void> undefine(TypeQLUndefine query, TypeDBOptions options) {
+            return undefine(query.toString(false), options);
+        }
+
+        @Override
+        public CompletableFuture<Void> undefine(String query) {
+            return undefine(query, TypeDBOptions.core());
+        }
+
+        @Override
+        public CompletableFuture<Void> undefine(String query, TypeDBOptions options) {
+            return queryVoid(undefineReq(query, options.proto()));
+        }
+
+        private CompletableFuture<Void> queryVoid(TransactionProto.Transaction.Req.Builder req) {
+            return transactionExt.queryAsync(req).thenApply(res -> null);
+        }
+
+        private CompletableFuture<QueryProto.QueryManager.Res> query(TransactionProto.Transaction.Req.Builder req) {
+            return transactionExt.queryAsync(req).thenApply(TransactionProto.Transaction.Res::getQueryManagerRes);
+        }
+    }
+
+    private final class Reactive implements QueryManager.Reactive {
+
+        @Override
+        public Flow.Publisher<ConceptMap> match(TypeQLMatch query) {
+            return match(query.toString(false));
+        }
+
+        @Override
+        public Flow.Publisher<ConceptMap> match(TypeQLMatch query, TypeDBOptions options) {
+            return match(query.toString(false), options);
+        }
+
+        @Override
+        public Flow.Publisher<ConceptMap> match(String query) {
+            return match(query, TypeDBOptions.core());
+        }
+
+        @Override
+        public Flow.Publisher<ConceptMap> match(String query, TypeDBOptions options) {
+            return publisher(matchReq(query, options.proto()), answers(rp -> rp.getMatchResPart().getAnswersList()));
+        }
+
+        @Override
+        public Flow.Publisher<ConceptMap> insert(TypeQLInsert query) {
+            return insert(query.toString(false));
+        }
+
+        @Override
+        public Flow.Publisher<ConceptMap> insert(TypeQLInsert query, TypeDBOptions options) {
+            return insert(query.toString(false), options);
+        }
+
+        @Override
+        public Flow.Publisher<ConceptMap> insert(String query) {
+            return insert(query, TypeDBOptions.core());
+        }
+
+        @Override
+        public Flow.Publisher<ConceptMap> insert(String query, TypeDBOptions options) {
+            return publisher(insertReq(query, options.proto()), answers(rp -> rp.getInsertResPart().getAnswersList()));
+        }
+
+        @Override
+        public Flow.Publisher<ConceptMap> update(TypeQLUpdate query) {
+            return update(query.toString(false));
+        }
+
+        @Override
+        public Flow.Publisher<ConceptMap> update(TypeQLUpdate query, TypeDBOptions options) {
+            return update(query.toString(false), options);
+        }
+
+        @Override
+        public Flow.Publisher<ConceptMap> update(String query) {
+            return update(query, TypeDBOptions.core());
+        }
+
+        @Override
+        public Flow.Publisher<ConceptMap> update(String query, TypeDBOptions options) {
+            return publisher(updateReq(query, options.proto()), answers(rp -> rp.getUpdateResPart().getAnswersList()));
+        }
+
+        private Function<QueryProto.QueryManager.ResPart, Iterator<ConceptMap>> answers(
+                Function<QueryProto.QueryManager.ResPart, List<AnswerProto.ConceptMap>> answersList
+        ) {
+            ConceptMapImpl.Decoder decoder = new ConceptMapImpl.Decoder();
+            return rp -> answersList.apply(rp).stream().map(decoder::decode).iterator();
+        }
+
+        private <T> Flow.Publisher<T> publisher(TransactionProto.Transaction.Req.Builder req,
+                                                Function<QueryProto.QueryManager.ResPart, Iterator<T>> mapper) {
+            return new FlatMapPublisher<>(
+                    transactionExt.publisher(req),
+                    resPart -> mapper.apply(resPart.getQueryManagerResPart())
+            );
+        }
+    }
 }
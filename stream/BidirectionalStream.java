@@ -22,6 +22,7 @@
 package com.vaticle.typedb.client.stream;
 
 import com.google.protobuf.ByteString;
+import com.vaticle.typedb.client.common.collection.ConcurrentLongMap;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.common.rpc.TypeDBStub;
 import com.vaticle.typedb.protocol.TransactionProto.Transaction.Req;
@@ -30,18 +31,24 @@ import com.vaticle.typedb.protocol.TransactionProto.Transaction.ResPart;
 import com.vaticle.typedb.protocol.TransactionProto.Transaction.Server;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
-import static com.vaticle.typedb.client.common.collection.Bytes.bytesToUUID;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.PUBLISHER_ALREADY_SUBSCRIBED;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.UNKNOWN_REQUEST_ID;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.ILLEGAL_ARGUMENT;
-import static com.vaticle.typedb.client.common.rpc.RequestBuilder.UUIDAsByteString;
 import static java.util.Spliterator.IMMUTABLE;
 import static java.util.Spliterator.ORDERED;
 import static java.util.Spliterators.spliteratorUnknownSize;
@@ -49,59 +56,191 @@ import static java.util.Spliterators.spliteratorUnknownSize;
 public class BidirectionalStream implements AutoCloseable {
 
     private final ResponseCollector<Res> resCollector;
+    private final ConcurrentLongMap<CompletableFuture<Res>> resFutures;
     private final ResponseCollector<ResPart> resPartCollector;
+    private final ConcurrentLongMap<ResponsePartIterator> resPartIterators;
+    private final ConcurrentLongMap<ResponsePartSubscription> resPartSubscriptions;
+    private final BufferedBytes buffered;
+    private final BufferBudget budget;
+    private final int readAheadBatches;
     private final RequestTransmitter.Dispatcher dispatcher;
+    private final long requestIDPrefix;
+    private final AtomicLong requestIDCounter;
     private final AtomicBoolean isOpen;
     private final LinkedBlockingQueue<Consumer<Throwable>> onClose;
+    private final Executor completionExecutor;
     private StatusRuntimeException error;
 
-    public BidirectionalStream(TypeDBStub stub, RequestTransmitter transmitter) {
+    public BidirectionalStream(TypeDBStub stub, RequestTransmitter transmitter, BufferBudget budget, int readAheadBatches) {
+        this(stub, transmitter, budget, readAheadBatches, Runnable::run);
+    }
+
+    // Async answers are completed on the completion executor rather than on the gRPC thread, so that a dependent
+    // stage which blocks on the same transaction cannot hold up the delivery of the response it is waiting for
+    public BidirectionalStream(TypeDBStub stub, RequestTransmitter transmitter, BufferBudget budget, int readAheadBatches,
+                               Executor completionExecutor) {
         resPartCollector = new ResponseCollector<>();
+        resPartIterators = new ConcurrentLongMap<>();
+        resPartSubscriptions = new ConcurrentLongMap<>();
         resCollector = new ResponseCollector<>();
+        resFutures = new ConcurrentLongMap<>();
+        this.budget = budget;
+        this.readAheadBatches = readAheadBatches;
+        buffered = budget.client().child();
+        requestIDPrefix = ThreadLocalRandom.current().nextLong();
+        requestIDCounter = new AtomicLong(0);
         isOpen = new AtomicBoolean(false);
         dispatcher = transmitter.dispatcher(stub.transaction(new ResponseObserver()));
         isOpen.set(true);
         onClose = new LinkedBlockingQueue<>();
+        this.completionExecutor = completionExecutor;
         error = null;
     }
 
     public Single<Res> single(Req.Builder request, boolean batch) {
-        UUID requestID = UUID.randomUUID();
-        Req req = request.setReqId(UUIDAsByteString(requestID)).build();
+        long requestID = requestIDCounter.incrementAndGet();
+        Req req = request.setReqId(requestIDAsByteString(requestID)).build();
         ResponseCollector.Queue<Res> queue = resCollector.queue(requestID);
         if (batch) dispatcher.dispatch(req);
         else dispatcher.dispatchNow(req);
         return new Single<>(queue);
     }
 
+    public CompletableFuture<Res> singleAsync(Req.Builder request, boolean batch) {
+        long requestID = requestIDCounter.incrementAndGet();
+        Req req = request.setReqId(requestIDAsByteString(requestID)).build();
+        CompletableFuture<Res> future = new CompletableFuture<>();
+        resFutures.put(requestID, future);
+        if (!isOpen.get() && resFutures.remove(requestID) != null) {
+            future.completeExceptionally(ResponseCollector.closedException(error));
+            return future;
+        }
+        if (batch) dispatcher.dispatch(req);
+        else dispatcher.dispatchNow(req);
+        return future;
+    }
+
     public Stream<ResPart> stream(Req.Builder request) {
-        UUID requestID = UUID.randomUUID();
+        long requestID = requestIDCounter.incrementAndGet();
+        ByteString requestIDBytes = requestIDAsByteString(requestID);
         ResponseCollector.Queue<ResPart> collector = resPartCollector.queue(requestID);
-        dispatcher.dispatch(request.setReqId(UUIDAsByteString(requestID)).build());
-        ResponsePartIterator iterator = new ResponsePartIterator(requestID, collector, dispatcher);
-        return StreamSupport.stream(spliteratorUnknownSize(iterator, ORDERED | IMMUTABLE), false);
+        ResponsePartIterator iterator = new ResponsePartIterator(
+                requestID, requestIDBytes, collector, dispatcher, buffered.child(), budget, readAheadBatches
+        );
+        resPartIterators.put(requestID, iterator);
+        dispatcher.dispatch(request.setReqId(requestIDBytes).build());
+        iterator.start();
+        return StreamSupport.stream(spliteratorUnknownSize(iterator, ORDERED | IMMUTABLE), false).onClose(() -> {
+            if (iterator.cancel()) finish(requestID);
+        });
+    }
+
+    public Flow.Publisher<ResPart> publisher(Req.Builder request) {
+        return publisher(request, () -> {});
+    }
+
+    // The request is built once and sent on the only subscription, so a query never runs twice; beforeDispatch runs
+    // right before it is sent, and a failure there fails the subscription instead
+    public Flow.Publisher<ResPart> publisher(Req.Builder request, Runnable beforeDispatch) {
+        long requestID = requestIDCounter.incrementAndGet();
+        ByteString requestIDBytes = requestIDAsByteString(requestID);
+        Req req = request.setReqId(requestIDBytes).build();
+        AtomicBoolean isSubscribed = new AtomicBoolean(false);
+        return subscriber -> {
+            if (isSubscribed.compareAndSet(false, true)) {
+                subscribe(requestID, requestIDBytes, req, beforeDispatch, subscriber);
+            } else {
+                fail(subscriber, new TypeDBClientException(PUBLISHER_ALREADY_SUBSCRIBED));
+            }
+        };
+    }
+
+    private void subscribe(long requestID, ByteString requestIDBytes, Req req, Runnable beforeDispatch,
+                           Flow.Subscriber<? super ResPart> subscriber) {
+        try {
+            beforeDispatch.run();
+        } catch (RuntimeException e) {
+            fail(subscriber, e);
+            return;
+        }
+        ResponsePartSubscription subscription = new ResponsePartSubscription(
+                requestIDBytes, dispatcher, subscriber, () -> resPartSubscriptions.remove(requestID)
+        );
+        resPartSubscriptions.put(requestID, subscription);
+        subscriber.onSubscribe(subscription);
+        if (!isOpen.get() && resPartSubscriptions.remove(requestID) != null) {
+            subscription.close(error);
+            return;
+        }
+        dispatcher.dispatch(req);
+    }
+
+    private static void fail(Flow.Subscriber<? super ResPart> subscriber, Throwable error) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        subscriber.onError(error);
     }
 
     public boolean isOpen() {
         return isOpen.get();
     }
 
+    public long bufferedBytes() {
+        return buffered.get();
+    }
+
     private void collect(Res res) {
-        UUID requestID = byteStringAsUUID(res.getReqId());
+        long requestID = byteStringAsRequestID(res.getReqId());
         ResponseCollector.Queue<Res> collector = resCollector.get(requestID);
-        if (collector != null) collector.put(res);
+        if (collector != null) {
+            // removed before the response is handed over, so a request is no longer pending once its result is read
+            resCollector.remove(requestID);
+            collector.put(res);
+            return;
+        }
+        CompletableFuture<Res> future = resFutures.remove(requestID);
+        if (future != null) complete(() -> future.complete(res));
         else throw new TypeDBClientException(UNKNOWN_REQUEST_ID, requestID, res);
     }
 
     private void collect(ResPart resPart) {
-        UUID requestID = byteStringAsUUID(resPart.getReqId());
-        ResponseCollector.Queue<ResPart> collector = resPartCollector.get(requestID);
-        if (collector != null) collector.put(resPart);
-        else throw new TypeDBClientException(UNKNOWN_REQUEST_ID, requestID, resPart);
+        long requestID = byteStringAsRequestID(resPart.getReqId());
+        ResponsePartIterator iterator = resPartIterators.get(requestID);
+        if (iterator != null) {
+            if (iterator.collect(resPart)) finish(requestID);
+            return;
+        }
+        ResponsePartSubscription subscription = resPartSubscriptions.get(requestID);
+        if (subscription == null) throw new TypeDBClientException(UNKNOWN_REQUEST_ID, requestID, resPart);
+        subscription.collect(resPart);
+    }
+
+    private void finish(long requestID) {
+        resPartIterators.remove(requestID);
+        resPartCollector.remove(requestID);
+    }
+
+    // Request IDs keep the 16-byte UUID layout on the wire: a random per-stream prefix followed by a counter
+    private ByteString requestIDAsByteString(long requestID) {
+        byte[] bytes = new byte[2 * Long.BYTES];
+        for (int i = 0; i < Long.BYTES; i++) {
+            bytes[i] = (byte) (requestIDPrefix >>> (Long.SIZE - Byte.SIZE * (i + 1)));
+            bytes[Long.BYTES + i] = (byte) (requestID >>> (Long.SIZE - Byte.SIZE * (i + 1)));
+        }
+        return ByteString.copyFrom(bytes);
     }
 
-    private static UUID byteStringAsUUID(ByteString byteString) {
-        return bytesToUUID(byteString.toByteArray());
+    private static long byteStringAsRequestID(ByteString byteString) {
+        long requestID = 0;
+        for (int i = Long.BYTES; i < 2 * Long.BYTES; i++) requestID = (requestID << Byte.SIZE) | (byteString.byteAt(i) & 0xFF);
+        return requestID;
     }
 
     public void onClose(Consumer<Throwable> function) {
@@ -118,7 +257,10 @@ public class BidirectionalStream implements AutoCloseable {
             this.error = error;
             if (onClose != null) onClose.forEach(fn -> fn.accept(error));
             resCollector.close(error);
+            closeFutures(error);
             resPartCollector.close(error);
+            closeSubscriptions(error);
+            buffered.release();
             try {
                 dispatcher.close();
             } catch (StatusRuntimeException e) {
@@ -127,6 +269,28 @@ public class BidirectionalStream implements AutoCloseable {
         }
     }
 
+    private void closeFutures(@Nullable StatusRuntimeException error) {
+        // dependent stages run on completion, so they must not run while the map is locked
+        List<CompletableFuture<Res>> futures = new ArrayList<>();
+        resFutures.forEachValue(futures::add);
+        futures.forEach(future -> complete(() -> future.completeExceptionally(ResponseCollector.closedException(error))));
+    }
+
+    private void complete(Runnable completion) {
+        try {
+            completionExecutor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            // the client is closing down, so there is no other thread left to complete on
+            completion.run();
+        }
+    }
+
+    private void closeSubscriptions(@Nullable StatusRuntimeException error) {
+        List<ResponsePartSubscription> subscriptions = new ArrayList<>();
+        resPartSubscriptions.forEachValue(subscriptions::add);
+        subscriptions.forEach(subscription -> subscription.close(error));
+    }
+
     public Optional<StatusRuntimeException> getError() {
         return Optional.ofNullable(error);
     }
@@ -135,6 +299,11 @@ public class BidirectionalStream implements AutoCloseable {
         return dispatcher;
     }
 
+    public int pendingRequests() {
+        return resCollector.size() + resFutures.size() + resPartCollector.size() + resPartIterators.size()
+                + resPartSubscriptions.size();
+    }
+
     public static class Single<T> {
 
         private final ResponseCollector.Queue<T> queue;
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.stream;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BufferedBytes {
+
+    private static final long RELEASED = Long.MIN_VALUE;
+
+    private final AtomicLong bytes;
+    private final BufferedBytes parent;
+
+    public BufferedBytes() {
+        this(null);
+    }
+
+    private BufferedBytes(@Nullable BufferedBytes parent) {
+        this.bytes = new AtomicLong(0);
+        this.parent = parent;
+    }
+
+    BufferedBytes child() {
+        return new BufferedBytes(this);
+    }
+
+    void add(long delta) {
+        long current;
+        do {
+            current = bytes.get();
+            if (current == RELEASED) return;
+        } while (!bytes.compareAndSet(current, current + delta));
+        if (parent != null) parent.add(delta);
+    }
+
+    void release() {
+        long remaining = bytes.getAndSet(RELEASED);
+        if (remaining != RELEASED && parent != null) parent.add(-remaining);
+    }
+
+    boolean isEmpty() {
+        return get() == 0;
+    }
+
+    public long get() {
+        long current = bytes.get();
+        return current == RELEASED ? 0 : current;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.stream;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public interface FlushPolicy {
+
+    long windowNanos(long meanArrivalGapNanos, int pendingRequests);
+
+    boolean isFull(int pendingRequests, long pendingBytes);
+
+    static FlushPolicy adaptive() {
+        return new Adaptive(MILLISECONDS.toNanos(2), 16, 64, 256 * 1024);
+    }
+
+    static FlushPolicy lowLatency() {
+        return new Adaptive(MICROSECONDS.toNanos(200), 4, 16, 64 * 1024);
+    }
+
+    static FlushPolicy throughput() {
+        return new Adaptive(MILLISECONDS.toNanos(3), 128, 512, 1024 * 1024);
+    }
+
+    class Adaptive implements FlushPolicy {
+
+        private final long maxWindowNanos;
+        private final int targetBatchRequests;
+        private final int maxBatchRequests;
+        private final long maxBatchBytes;
+
+        public Adaptive(long maxWindowNanos, int targetBatchRequests, int maxBatchRequests, long maxBatchBytes) {
+            this.maxWindowNanos = maxWindowNanos;
+            this.targetBatchRequests = targetBatchRequests;
+            this.maxBatchRequests = maxBatchRequests;
+            this.maxBatchBytes = maxBatchBytes;
+        }
+
+        @Override
+        public long windowNanos(long meanArrivalGapNanos, int pendingRequests) {
+            // a lone pending request is most likely from a caller awaiting its response before sending the next one,
+            // and if fewer than two more requests are expected within the window, waiting would only add latency
+            if (pendingRequests <= 1) return 0;
+            else if (meanArrivalGapNanos <= 0 || meanArrivalGapNanos * 2 > maxWindowNanos) return 0;
+            else return Math.min(maxWindowNanos, meanArrivalGapNanos * targetBatchRequests);
+        }
+
+        @Override
+        public boolean isFull(int pendingRequests, long pendingBytes) {
+            return pendingRequests >= maxBatchRequests || pendingBytes >= maxBatchBytes;
+        }
+    }
+}
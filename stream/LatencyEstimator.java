@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.stream;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// The smoothed round trip time of a channel and its mean deviation, updated with every sample as TCP does for its
+// retransmission timer (RFC 6298)
+public class LatencyEstimator {
+
+    private static final double ALPHA = 1.0 / 8;
+    private static final double BETA = 1.0 / 4;
+
+    private final Lock updateLock;
+    private volatile double smoothedMillis;
+    private volatile double deviationMillis;
+    private boolean hasSample;
+
+    public LatencyEstimator() {
+        updateLock = new ReentrantLock();
+        smoothedMillis = 0;
+        deviationMillis = 0;
+        hasSample = false;
+    }
+
+    public void record(long roundTripNanos) {
+        double sample = roundTripNanos / 1_000_000.0;
+        try {
+            updateLock.lock();
+            if (!hasSample) {
+                smoothedMillis = sample;
+                deviationMillis = sample / 2;
+                hasSample = true;
+            } else {
+                deviationMillis = (1 - BETA) * deviationMillis + BETA * Math.abs(smoothedMillis - sample);
+                smoothedMillis = (1 - ALPHA) * smoothedMillis + ALPHA * sample;
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    public double millis() {
+        return smoothedMillis;
+    }
+
+    public double deviationMillis() {
+        return deviationMillis;
+    }
+
+    // the estimate as sent to the server, which expects at least one millisecond
+    public int estimateMillis() {
+        return Math.max((int) Math.round(smoothedMillis), 1);
+    }
+}
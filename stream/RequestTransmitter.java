@@ -24,7 +24,6 @@ package com.vaticle.typedb.client.stream;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.common.rpc.RequestBuilder;
 import com.vaticle.typedb.common.collection.ConcurrentSet;
-import com.vaticle.typedb.common.concurrent.NamedThreadFactory;
 import com.vaticle.typedb.protocol.TransactionProto;
 import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
@@ -36,27 +35,38 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.StampedLock;
 
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.CLIENT_CLOSED;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.TRANSACTION_CLOSED;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 public class RequestTransmitter implements AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(RequestTransmitter.class);
-    private static final int BATCH_WINDOW_SMALL_MILLIS = 1;
-    private static final int BATCH_WINDOW_LARGE_MILLIS = 3;
+    private static final long MAX_TRACKED_ARRIVAL_GAP_NANOS = MILLISECONDS.toNanos(10);
+    private static final int ARRIVAL_GAP_SMOOTHING_SHIFT = 3;
 
     private final ArrayList<Executor> executors;
     private final AtomicInteger executorIndex;
     private final ReadWriteLock accessLock;
+    private final FlushPolicy flushPolicy;
     private volatile boolean isOpen;
 
-    public RequestTransmitter(int parallelisation, NamedThreadFactory threadFactory) {
+    public RequestTransmitter(int parallelisation, ThreadFactory threadFactory) {
+        this(parallelisation, threadFactory, FlushPolicy.adaptive());
+    }
+
+    public RequestTransmitter(int parallelisation, ThreadFactory threadFactory, FlushPolicy flushPolicy) {
         this.executors = new ArrayList<>(parallelisation);
         this.executorIndex = new AtomicInteger(0);
         this.accessLock = new StampedLock().asReadWriteLock();
+        this.flushPolicy = flushPolicy;
         this.isOpen = true;
         for (int i = 0; i < parallelisation; i++) this.executors.add(new Executor(threadFactory));
     }
@@ -98,13 +108,23 @@ public class RequestTransmitter implements AutoCloseable {
     private class Executor implements AutoCloseable {
 
         private final ConcurrentSet<Dispatcher> dispatchers;
+        private final ConcurrentLinkedQueue<Dispatcher> readyDispatchers;
         private final AtomicBoolean isRunning;
         private final Semaphore permissionToRun;
+        private final Semaphore flushRequested;
+        private final AtomicLong lastArrivalNanos;
+        private final AtomicInteger pendingRequests;
+        private volatile long meanArrivalGapNanos;
 
         private Executor(ThreadFactory threadFactory) {
             dispatchers = new ConcurrentSet<>();
+            readyDispatchers = new ConcurrentLinkedQueue<>();
             isRunning = new AtomicBoolean(false);
             permissionToRun = new Semaphore(0);
+            flushRequested = new Semaphore(0);
+            lastArrivalNanos = new AtomicLong(System.nanoTime());
+            pendingRequests = new AtomicInteger(0);
+            meanArrivalGapNanos = MAX_TRACKED_ARRIVAL_GAP_NANOS;
             threadFactory.newThread(this::run).start();
         }
 
@@ -112,23 +132,51 @@ public class RequestTransmitter implements AutoCloseable {
             if (isRunning.compareAndSet(false, true)) permissionToRun.release();
         }
 
+        private void requestFlush() {
+            if (flushRequested.availablePermits() == 0) flushRequested.release();
+        }
+
+        private void recordArrival() {
+            long now = System.nanoTime();
+            long gap = Math.min(now - lastArrivalNanos.getAndSet(now), MAX_TRACKED_ARRIVAL_GAP_NANOS);
+            // concurrent updates may occasionally be lost, which is harmless for a smoothed estimate
+            long mean = meanArrivalGapNanos;
+            meanArrivalGapNanos = mean + ((gap - mean) >> ARRIVAL_GAP_SMOOTHING_SHIFT);
+        }
+
+        private void schedule(Dispatcher dispatcher) {
+            readyDispatchers.add(dispatcher);
+            mayStartRunning();
+        }
+
+        private void sendReadyRequests() {
+            Dispatcher dispatcher;
+            while ((dispatcher = readyDispatchers.poll()) != null) {
+                // unschedule before draining, so that requests dispatched meanwhile reschedule the dispatcher
+                dispatcher.isScheduled.set(false);
+                dispatcher.sendBatchedRequests();
+            }
+        }
+
         private void run() {
             while (isOpen) {
                 try {
                     permissionToRun.acquire();
-                    boolean first = true;
-                    while (true) {
-                        Thread.sleep(first ? BATCH_WINDOW_SMALL_MILLIS : BATCH_WINDOW_LARGE_MILLIS);
-                        if (dispatchers.isEmpty()) break;
-                        else dispatchers.forEach(Dispatcher::sendBatchedRequests);
-                        first = false;
+                    while (!readyDispatchers.isEmpty()) {
+                        long window = flushPolicy.windowNanos(meanArrivalGapNanos, pendingRequests.get());
+                        if (window > 0) flushRequested.tryAcquire(window, NANOSECONDS);
+                        flushRequested.drainPermits();
+                        sendReadyRequests();
                     }
                 } catch (InterruptedException e) {
                     LOG.error(e.getMessage(), e);
+                } catch (RuntimeException e) {
+                    // one failed flush must not stop the thread that flushes every other transaction of the client
+                    LOG.error(e.getMessage(), e);
                 } finally {
                     isRunning.set(false);
                 }
-                if (!dispatchers.isEmpty()) mayStartRunning();
+                if (!readyDispatchers.isEmpty()) mayStartRunning();
             }
         }
 
@@ -144,29 +192,60 @@ public class RequestTransmitter implements AutoCloseable {
         private final Executor executor;
         private final StreamObserver<TransactionProto.Transaction.Client> requestObserver;
         private final ConcurrentLinkedQueue<TransactionProto.Transaction.Req> requestQueue;
+        private final AtomicInteger pendingRequests;
+        private final AtomicLong pendingBytes;
+        private final AtomicBoolean isScheduled;
         private final AtomicBoolean isOpen;
+        // a lock rather than a monitor, so that virtual threads sending requests are not pinned to their carrier
+        private final Lock sendLock;
 
         private Dispatcher(Executor executor, StreamObserver<TransactionProto.Transaction.Client> requestObserver) {
             this.executor = executor;
             this.requestObserver = requestObserver;
             requestQueue = new ConcurrentLinkedQueue<>();
+            pendingRequests = new AtomicInteger(0);
+            pendingBytes = new AtomicLong(0);
+            isScheduled = new AtomicBoolean(false);
             isOpen = new AtomicBoolean(true);
+            sendLock = new ReentrantLock();
         }
 
-        private synchronized void sendBatchedRequests() {
-            if (requestQueue.isEmpty() || !isOpen.get()) return;
-            TransactionProto.Transaction.Req request;
-            ArrayList<TransactionProto.Transaction.Req> requests = new ArrayList<>(requestQueue.size() * 2);
-            while ((request = requestQueue.poll()) != null) requests.add(request);
-            requestObserver.onNext(RequestBuilder.Transaction.clientMsg(requests));
+        private void sendBatchedRequests() {
+            try {
+                sendLock.lock();
+                if (requestQueue.isEmpty() || !isOpen.get()) return;
+                TransactionProto.Transaction.Req request;
+                ArrayList<TransactionProto.Transaction.Req> requests = new ArrayList<>(Math.max(pendingRequests.get(), 0) * 2);
+                long bytes = 0;
+                while ((request = requestQueue.poll()) != null) {
+                    requests.add(request);
+                    bytes += request.getSerializedSize();
+                }
+                pendingRequests.addAndGet(-requests.size());
+                executor.pendingRequests.addAndGet(-requests.size());
+                pendingBytes.addAndGet(-bytes);
+                requestObserver.onNext(RequestBuilder.Transaction.clientMsg(requests));
+            } finally {
+                sendLock.unlock();
+            }
+        }
+
+        // counted before it is queued, so that a concurrent drain never subtracts a request that was not yet counted
+        private void enqueue(TransactionProto.Transaction.Req requestProto) {
+            pendingRequests.incrementAndGet();
+            executor.pendingRequests.incrementAndGet();
+            pendingBytes.addAndGet(requestProto.getSerializedSize());
+            requestQueue.add(requestProto);
         }
 
         public void dispatch(TransactionProto.Transaction.Req requestProto) {
             try {
                 accessLock.readLock().lock();
                 if (!isOpen.get()) throw new TypeDBClientException(TRANSACTION_CLOSED);
-                requestQueue.add(requestProto);
-                executor.mayStartRunning();
+                enqueue(requestProto);
+                executor.recordArrival();
+                if (flushPolicy.isFull(pendingRequests.get(), pendingBytes.get())) executor.requestFlush();
+                if (isScheduled.compareAndSet(false, true)) executor.schedule(this);
             } finally {
                 accessLock.readLock().unlock();
             }
@@ -176,7 +255,7 @@ public class RequestTransmitter implements AutoCloseable {
             try {
                 accessLock.readLock().lock();
                 if (!isOpen.get()) throw new TypeDBClientException(TRANSACTION_CLOSED);
-                requestQueue.add(requestProto);
+                enqueue(requestProto);
                 sendBatchedRequests();
             } finally {
                 accessLock.readLock().unlock();
@@ -184,10 +263,17 @@ public class RequestTransmitter implements AutoCloseable {
         }
 
         @Override
-        public synchronized void close() {
-            if (isOpen.compareAndSet(true, false)) {
-                requestObserver.onCompleted();
-                executor.dispatchers.remove(this);
+        public void close() {
+            try {
+                sendLock.lock();
+                if (isOpen.compareAndSet(true, false)) {
+                    // requests left unsent must not keep the executor opening flush windows
+                    executor.pendingRequests.addAndGet(-pendingRequests.getAndSet(0));
+                    requestObserver.onCompleted();
+                    executor.dispatchers.remove(this);
+                }
+            } finally {
+                sendLock.unlock();
             }
         }
     }
@@ -21,83 +21,178 @@
 
 package com.vaticle.typedb.client.stream;
 
+import com.vaticle.typedb.client.common.collection.ConcurrentLongMap;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
-import com.vaticle.typedb.common.collection.Either;
 import io.grpc.StatusRuntimeException;
 
 import javax.annotation.Nullable;
-import java.util.Optional;
-import java.util.UUID;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.TRANSACTION_CLOSED;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.UNEXPECTED_INTERRUPTION;
 
 public class ResponseCollector<R> {
 
-    private final ConcurrentMap<UUID, Queue<R>> collectors;
+    private final ConcurrentLongMap<Queue<R>> collectors;
+    private final Lock accessLock;
 
     public ResponseCollector() {
-        collectors = new ConcurrentHashMap<>();
+        collectors = new ConcurrentLongMap<>();
+        accessLock = new ReentrantLock();
     }
 
-    synchronized Queue<R> queue(UUID requestId) {
-        Queue<R> collector = new Queue<>();
-        collectors.put(requestId, collector);
-        return collector;
+    Queue<R> queue(long requestId) {
+        try {
+            accessLock.lock();
+            Queue<R> collector = new Queue<>();
+            collectors.put(requestId, collector);
+            return collector;
+        } finally {
+            accessLock.unlock();
+        }
     }
 
-    Queue<R> get(UUID requestId) {
+    Queue<R> get(long requestId) {
         return collectors.get(requestId);
     }
 
-    synchronized void close(@Nullable StatusRuntimeException error) {
-        collectors.values().forEach(collector -> collector.close(error));
+    void remove(long requestId) {
+        collectors.remove(requestId);
+    }
+
+    int size() {
+        return collectors.size();
+    }
+
+    void close(@Nullable StatusRuntimeException error) {
+        try {
+            accessLock.lock();
+            collectors.forEachValue(collector -> collector.close(error));
+        } finally {
+            accessLock.unlock();
+        }
+    }
+
+    static TypeDBClientException closedException(@Nullable StatusRuntimeException error) {
+        if (error == null) return new TypeDBClientException(TRANSACTION_CLOSED);
+        else return TypeDBClientException.of(error);
     }
 
     public static class Queue<R> {
 
-        private final BlockingQueue<Either<Response<R>, Done>> responseQueue;
+        private static final int FIRST_CHUNK_SIZE = 4;
+        private static final int CHUNK_SIZE = 64;
+
+        // Written only by the producer (the gRPC response thread)
+        private Chunk<R> producerChunk;
+        private int producerIndex;
+
+        // Read only by the consumer (the thread waiting on the response)
+        private Chunk<R> consumerChunk;
+        private int consumerIndex;
+
+        private final AtomicReference<Done> done;
+        private volatile Thread waiter;
 
         Queue() {
-            // TODO: switch LinkedTransferQueue to LinkedBlockingQueue once issue #351 is fixed
-            responseQueue = new LinkedTransferQueue<>();
+            producerChunk = new Chunk<>(FIRST_CHUNK_SIZE);
+            producerIndex = 0;
+            consumerChunk = producerChunk;
+            consumerIndex = 0;
+            done = new AtomicReference<>();
+            waiter = null;
         }
 
         public R take() {
-            try {
-                Either<Response<R>, Done> response = responseQueue.take();
-                if (response.isFirst()) return response.first().message();
-                else if (!response.second().error().isPresent()) throw new TypeDBClientException(TRANSACTION_CLOSED);
-                else throw TypeDBClientException.of(response.second().error().get());
-            } catch (InterruptedException e) {
-                throw new TypeDBClientException(UNEXPECTED_INTERRUPTION);
+            while (true) {
+                R response = poll();
+                if (response != null) return response;
+                Done finished = done.get();
+                if (finished != null) {
+                    // responses published before the queue was closed are still delivered first
+                    response = poll();
+                    if (response != null) return response;
+                    else throw finished.exception();
+                }
+                waiter = Thread.currentThread();
+                response = poll();
+                if (response == null && done.get() == null) LockSupport.park(this);
+                waiter = null;
+                if (response != null) return response;
+                if (Thread.interrupted()) throw new TypeDBClientException(UNEXPECTED_INTERRUPTION);
             }
         }
 
+        boolean isEmpty() {
+            Chunk<R> chunk = consumerChunk;
+            int index = consumerIndex;
+            if (index == chunk.size()) {
+                chunk = chunk.next;
+                index = 0;
+                if (chunk == null) return true;
+            }
+            return chunk.elements.get(index) == null;
+        }
+
+        R poll() {
+            if (consumerIndex == consumerChunk.size()) {
+                Chunk<R> next = consumerChunk.next;
+                if (next == null) return null;
+                consumerChunk = next;
+                consumerIndex = 0;
+            }
+            R response = consumerChunk.elements.get(consumerIndex);
+            if (response == null) return null;
+            consumerChunk.elements.lazySet(consumerIndex++, null);
+            return response;
+        }
+
+        void clear() {
+            R response;
+            do {
+                response = poll();
+            } while (response != null);
+        }
+
         public void put(R response) {
-            responseQueue.add(Either.first(new Response<>(response)));
+            if (producerIndex == producerChunk.size()) {
+                Chunk<R> next = new Chunk<>(CHUNK_SIZE);
+                next.elements.lazySet(0, response);
+                producerChunk.next = next;
+                producerChunk = next;
+                producerIndex = 1;
+            } else {
+                producerChunk.elements.set(producerIndex++, response);
+            }
+            signal();
         }
 
         public void close(@Nullable StatusRuntimeException error) {
-            responseQueue.add(Either.second(new Done(error)));
+            done.compareAndSet(null, new Done(error));
+            signal();
+        }
+
+        private void signal() {
+            Thread consumer = waiter;
+            if (consumer != null) LockSupport.unpark(consumer);
         }
 
-        private static class Response<R> {
+        private static class Chunk<R> {
 
-            @Nullable
-            private final R value;
+            private final AtomicReferenceArray<R> elements;
+            private volatile Chunk<R> next;
 
-            private Response(@Nullable R value) {
-                this.value = value;
+            private Chunk(int size) {
+                elements = new AtomicReferenceArray<>(size);
+                next = null;
             }
 
-            @Nullable
-            private R message() {
-                return value;
+            private int size() {
+                return elements.length();
             }
         }
 
@@ -108,8 +203,8 @@ public class ResponseCollector<R> {
                 this.error = error;
             }
 
-            private Optional<StatusRuntimeException> error() {
-                return Optional.ofNullable(error);
+            private TypeDBClientException exception() {
+                return closedException(error);
             }
         }
     }
@@ -21,13 +21,14 @@
 
 package com.vaticle.typedb.client.stream;
 
+import com.google.protobuf.ByteString;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.common.rpc.RequestBuilder;
 import com.vaticle.typedb.protocol.TransactionProto;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.MISSING_RESPONSE;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.ILLEGAL_ARGUMENT;
@@ -35,38 +36,115 @@ import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.I
 
 public class ResponsePartIterator implements Iterator<TransactionProto.Transaction.ResPart> {
 
-    private final UUID requestID;
+    // added to the credits on cancellation, so that no continuation can be granted once the stream is cancelled
+    private static final int CANCELLED = 1 << 30;
+
+    private final long requestID;
+    private final ByteString requestIDBytes;
     private final RequestTransmitter.Dispatcher dispatcher;
     private final ResponseCollector.Queue<TransactionProto.Transaction.ResPart> responseCollector;
+    private final BufferedBytes buffered;
+    private final BufferBudget budget;
+    private final int readAheadCredits;
+    private final AtomicInteger credits;
     private TransactionProto.Transaction.ResPart next;
     private State state;
 
     enum State {EMPTY, FETCHED, DONE}
 
-    public ResponsePartIterator(UUID requestID, ResponseCollector.Queue<TransactionProto.Transaction.ResPart> responseQueue,
-                                RequestTransmitter.Dispatcher dispatcher) {
+    public ResponsePartIterator(long requestID, ByteString requestIDBytes,
+                                ResponseCollector.Queue<TransactionProto.Transaction.ResPart> responseQueue,
+                                RequestTransmitter.Dispatcher dispatcher, BufferedBytes buffered, BufferBudget budget,
+                                int readAheadBatches) {
         this.requestID = requestID;
+        this.requestIDBytes = requestIDBytes;
         this.responseCollector = responseQueue;
         this.dispatcher = dispatcher;
+        this.buffered = buffered;
+        this.budget = budget;
+        // the first batch is requested by the query itself, further ones are requested ahead of the consumer
+        readAheadCredits = readAheadBatches - 1;
+        credits = new AtomicInteger(0);
         state = State.EMPTY;
         next = null;
     }
 
+    void start() {
+        // the read-ahead batches are granted whatever the budget, which the first batch may already exhaust
+        requestMore();
+    }
+
+    boolean collect(TransactionProto.Transaction.ResPart resPart) {
+        if (isContinue(resPart)) {
+            // the server has finished a batch, and waits for a continuation once it has used up all of them
+            int remaining = credits.decrementAndGet();
+            if (isCancelled(remaining)) return remaining - CANCELLED < 0;
+            mayRequestMore();
+            return false;
+        } else {
+            if (!isCancelled(credits.get())) {
+                buffered.add(resPart.getSerializedSize());
+                responseCollector.put(resPart);
+            }
+            return isDone(resPart);
+        }
+    }
+
+    boolean cancel() {
+        int current;
+        do {
+            current = credits.get();
+            if (isCancelled(current)) return false;
+        } while (!credits.compareAndSet(current, current + CANCELLED));
+        buffered.release();
+        responseCollector.clear();
+        // if the server is not waiting for a continuation, the end of its current batch will finish the request
+        return current < 0;
+    }
+
+    private static boolean isCancelled(int credits) {
+        return credits >= CANCELLED / 2;
+    }
+
+    private void mayRequestMore() {
+        // an empty buffer always requests more, so that a consumer can never wait on a paused stream
+        if (!buffered.isEmpty() && !budget.allows(buffered)) return;
+        requestMore();
+    }
+
+    private void requestMore() {
+        int current, missing;
+        do {
+            current = credits.get();
+            missing = readAheadCredits - current;
+            if (missing <= 0 || isCancelled(current)) return;
+        } while (!credits.compareAndSet(current, current + missing));
+        for (int i = 0; i < missing; i++) dispatcher.dispatch(RequestBuilder.Transaction.streamReq(requestIDBytes));
+    }
+
+    private static boolean isContinue(TransactionProto.Transaction.ResPart resPart) {
+        return resPart.hasStreamResPart() &&
+                resPart.getStreamResPart().getState() == TransactionProto.Transaction.Stream.State.CONTINUE;
+    }
+
+    private static boolean isDone(TransactionProto.Transaction.ResPart resPart) {
+        return resPart.hasStreamResPart() &&
+                resPart.getStreamResPart().getState() == TransactionProto.Transaction.Stream.State.DONE;
+    }
+
     private boolean fetchAndCheck() {
         TransactionProto.Transaction.ResPart resPart = responseCollector.take();
+        buffered.add(-resPart.getSerializedSize());
+        mayRequestMore();
         switch (resPart.getResCase()) {
             case RES_NOT_SET:
                 throw new TypeDBClientException(MISSING_RESPONSE, requestID);
             case STREAM_RES_PART:
-                switch (resPart.getStreamResPart().getState()) {
-                    case DONE:
-                        state = State.DONE;
-                        return false;
-                    case CONTINUE:
-                        dispatcher.dispatch(RequestBuilder.Transaction.streamReq(requestID));
-                        return fetchAndCheck();
-                    default:
-                        throw new TypeDBClientException(ILLEGAL_ARGUMENT);
+                if (isDone(resPart)) {
+                    state = State.DONE;
+                    return false;
+                } else {
+                    throw new TypeDBClientException(ILLEGAL_ARGUMENT, resPart.getStreamResPart().getState());
                 }
             default:
                 next = resPart;
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.stream;
+
+import com.google.protobuf.ByteString;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.common.rpc.RequestBuilder;
+import com.vaticle.typedb.protocol.TransactionProto;
+import io.grpc.StatusRuntimeException;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.ILLEGAL_ARGUMENT;
+
+public class ResponsePartSubscription implements Flow.Subscription {
+
+    private final ByteString requestIDBytes;
+    private final RequestTransmitter.Dispatcher dispatcher;
+    private final Flow.Subscriber<? super TransactionProto.Transaction.ResPart> subscriber;
+    private final Runnable onFinished;
+    private final ResponseCollector.Queue<TransactionProto.Transaction.ResPart> responseQueue;
+    private final AtomicLong demand;
+    private final AtomicInteger heldContinuations;
+    private final AtomicInteger work;
+    private volatile boolean isDone;
+    private volatile boolean isCancelled;
+    private volatile boolean isTerminated;
+    // a subscriber breaking the protocol is told at once, rather than after the answers already received
+    private volatile boolean isProtocolViolated;
+    private volatile Throwable error;
+
+    ResponsePartSubscription(ByteString requestIDBytes, RequestTransmitter.Dispatcher dispatcher,
+                             Flow.Subscriber<? super TransactionProto.Transaction.ResPart> subscriber,
+                             Runnable onFinished) {
+        this.requestIDBytes = requestIDBytes;
+        this.dispatcher = dispatcher;
+        this.subscriber = subscriber;
+        this.onFinished = onFinished;
+        responseQueue = new ResponseCollector.Queue<>();
+        demand = new AtomicLong(0);
+        heldContinuations = new AtomicInteger(0);
+        work = new AtomicInteger(0);
+        isDone = false;
+        isCancelled = false;
+        isTerminated = false;
+        isProtocolViolated = false;
+        error = null;
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            error = new IllegalArgumentException("Subscribers must request a positive number of elements, but requested " + n);
+            isProtocolViolated = true;
+        } else {
+            demand.getAndUpdate(existing -> existing + n < 0 ? Long.MAX_VALUE : existing + n);
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (isCancelled) return;
+        isCancelled = true;
+        drain();
+    }
+
+    void collect(TransactionProto.Transaction.ResPart resPart) {
+        if (resPart.hasStreamResPart()) {
+            switch (resPart.getStreamResPart().getState()) {
+                case CONTINUE:
+                    heldContinuations.incrementAndGet();
+                    if (isCancelled) onFinished.run();
+                    break;
+                case DONE:
+                    isDone = true;
+                    onFinished.run();
+                    break;
+                default:
+                case UNRECOGNIZED:
+                    throw new TypeDBClientException(ILLEGAL_ARGUMENT);
+            }
+        } else if (!isCancelled) {
+            responseQueue.put(resPart);
+        }
+        drain();
+    }
+
+    void close(@Nullable StatusRuntimeException error) {
+        if (this.error == null) this.error = ResponseCollector.closedException(error);
+        drain();
+    }
+
+    // Signals to the subscriber are serialised: only the thread that raises the work counter from zero delivers them
+    private void drain() {
+        if (work.getAndIncrement() != 0) return;
+        int missed = 1;
+        do {
+            if (isTerminated) return;
+            if (isCancelled) {
+                terminate();
+                return;
+            }
+            long requested = demand.get();
+            long emitted = 0;
+            TransactionProto.Transaction.ResPart resPart;
+            while (emitted != requested && (resPart = responseQueue.poll()) != null) {
+                subscriber.onNext(resPart);
+                emitted++;
+            }
+            if (emitted > 0 && requested != Long.MAX_VALUE) demand.addAndGet(-emitted);
+
+            boolean isDone = this.isDone;
+            Throwable error = this.error;
+            boolean isEmpty = responseQueue.isEmpty();
+            if (isEmpty && isDone) {
+                isTerminated = true;
+                subscriber.onComplete();
+                return;
+            } else if (error != null && (isEmpty || isProtocolViolated)) {
+                isCancelled = true;
+                terminate();
+                subscriber.onError(error);
+                return;
+            } else if (isEmpty && demand.get() > 0 && heldContinuations.get() > 0) {
+                for (int i = heldContinuations.getAndSet(0); i > 0; i--) {
+                    dispatcher.dispatch(RequestBuilder.Transaction.streamReq(requestIDBytes));
+                }
+            }
+            missed = work.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void terminate() {
+        isTerminated = true;
+        responseQueue.clear();
+        // continuations are only sent from the drain loop, so a held one means the server is idle for this request;
+        // otherwise the next CONTINUE or DONE to arrive finishes it
+        if (heldContinuations.get() > 0) onFinished.run();
+    }
+}
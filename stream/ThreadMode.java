@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.stream;
+
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.common.concurrent.NamedThreadFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.VIRTUAL_THREADS_UNSUPPORTED;
+
+public enum ThreadMode {
+    PLATFORM,
+    VIRTUAL;
+
+    public ThreadFactory threadFactory(String name) {
+        switch (this) {
+            case VIRTUAL:
+                return virtualThreadFactory(name);
+            case PLATFORM:
+            default:
+                return NamedThreadFactory.create(name);
+        }
+    }
+
+    // The client is built for Java 11, so virtual threads (Java 21+) can only be reached reflectively
+    private static ThreadFactory virtualThreadFactory(String name) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method setName = builderClass.getMethod("name", String.class, long.class);
+            builder = setName.invoke(builder, name + "::", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new TypeDBClientException(VIRTUAL_THREADS_UNSUPPORTED, Runtime.version());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.stream;
+
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.common.rpc.RequestBuilder;
+import com.vaticle.typedb.common.concurrent.NamedThreadFactory;
+import com.vaticle.typedb.protocol.TransactionProto.Transaction;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BidirectionalStreamTest {
+
+    private static RequestTransmitter transmitter;
+
+    @BeforeClass
+    public static void setUp() {
+        transmitter = new RequestTransmitter(1, NamedThreadFactory.create("typedb-client-rpc-test"));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        transmitter.close();
+    }
+
+    @Test
+    public void completed_requests_release_their_response_queues() {
+        try (BidirectionalStream stream = new BidirectionalStream(EchoStub.unary(), transmitter, budget(), 1)) {
+            for (int i = 0; i < 10_000; i++) {
+                stream.single(Transaction.Req.newBuilder(), false).get();
+                assertEquals(0, stream.pendingRequests());
+            }
+        }
+    }
+
+    @Test
+    public void completed_streams_release_their_response_queues() {
+        try (BidirectionalStream stream = new BidirectionalStream(EchoStub.empty(), transmitter, budget(), 1)) {
+            for (int i = 0; i < 100_000; i++) {
+                assertEquals(0, stream.stream(Transaction.Req.newBuilder()).count());
+            }
+            assertEquals(0, stream.pendingRequests());
+        }
+    }
+
+    @Test
+    public void completed_publishers_release_their_response_queues() {
+        try (BidirectionalStream stream = new BidirectionalStream(EchoStub.empty(), transmitter, budget(), 1)) {
+            for (int i = 0; i < 100_000; i++) {
+                CompletableFuture<Void> completed = new CompletableFuture<>();
+                stream.publisher(Transaction.Req.newBuilder()).subscribe(new Flow.Subscriber<Transaction.ResPart>() {
+
+                    @Override
+                    public void onSubscribe(Flow.Subscription subscription) {
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onNext(Transaction.ResPart item) {
+                        completed.completeExceptionally(new AssertionError("Unexpected response part"));
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        completed.completeExceptionally(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        completed.complete(null);
+                    }
+                });
+                completed.join();
+            }
+            assertEquals(0, stream.pendingRequests());
+        }
+    }
+
+    @Test
+    public void streams_closed_mid_stream_send_no_further_continuations() {
+        EchoStub stub = EchoStub.batches(100, 2);
+        try (BidirectionalStream stream = new BidirectionalStream(stub, transmitter, budget(), 2)) {
+            for (int i = 0; i < 100_000; i++) {
+                try (Stream<Transaction.ResPart> parts = stream.stream(Transaction.Req.newBuilder())) {
+                    assertTrue(parts.iterator().hasNext());
+                }
+            }
+            stream.single(RequestBuilder.Transaction.commitReq(), false).get();
+            assertTrue(stream.isOpen());
+            assertEquals(0, stub.unexpectedContinuations());
+        }
+    }
+
+    @Test
+    public void async_answers_complete_off_the_response_thread() {
+        ExecutorService completionExecutor = Executors.newSingleThreadExecutor(NamedThreadFactory.create("typedb-client-async-test"));
+        try (BidirectionalStream stream = new BidirectionalStream(EchoStub.unary(), transmitter, budget(), 1, completionExecutor)) {
+            String thread = stream.singleAsync(Transaction.Req.newBuilder(), false)
+                    .thenApply(res -> {
+                        // blocking on the same stream from a dependent stage
+                        stream.single(Transaction.Req.newBuilder(), false).get();
+                        return Thread.currentThread().getName();
+                    }).join();
+            assertTrue(thread.startsWith("typedb-client-async-test"));
+        } finally {
+            completionExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void publishers_send_their_query_to_a_single_subscriber() {
+        EchoStub stub = EchoStub.batches(1, 1);
+        try (BidirectionalStream stream = new BidirectionalStream(stub, transmitter, budget(), 1)) {
+            Flow.Publisher<Transaction.ResPart> publisher = stream.publisher(Transaction.Req.newBuilder());
+            CompletableFuture<Long> first = new CompletableFuture<>();
+            publisher.subscribe(new Counting(first));
+            CompletableFuture<Long> second = new CompletableFuture<>();
+            publisher.subscribe(new Counting(second));
+            assertEquals(1L, (long) first.join());
+            try {
+                second.join();
+                fail();
+            } catch (CompletionException e) {
+                assertTrue(e.getCause() instanceof TypeDBClientException);
+            }
+            assertEquals(1, stub.sentBatches());
+        }
+    }
+
+    private static class Counting implements Flow.Subscriber<Transaction.ResPart> {
+
+        private final CompletableFuture<Long> completed;
+        private long count;
+
+        private Counting(CompletableFuture<Long> completed) {
+            this.completed = completed;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(Transaction.ResPart item) {
+            count++;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.complete(count);
+        }
+    }
+
+    private static BufferBudget budget() {
+        return new BufferBudget(new BufferedBytes(), Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+}
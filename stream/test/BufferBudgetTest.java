@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.stream;
+
+import com.vaticle.typedb.common.concurrent.NamedThreadFactory;
+import com.vaticle.typedb.protocol.TransactionProto.Transaction;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BufferBudgetTest {
+
+    private static final int BATCHES = 10;
+    private static final int BATCH_SIZE = 4;
+    private static final long QUIESCENCE_MILLIS = 200;
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    private static RequestTransmitter transmitter;
+
+    @BeforeClass
+    public static void setUp() {
+        transmitter = new RequestTransmitter(1, NamedThreadFactory.create("typedb-client-rpc-test"));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        transmitter.close();
+    }
+
+    @Test
+    public void unbounded_budget_streams_every_batch_ahead_of_the_consumer() throws InterruptedException {
+        EchoStub stub = EchoStub.batches(BATCHES, BATCH_SIZE);
+        BufferBudget budget = new BufferBudget(new BufferedBytes(), Long.MAX_VALUE, Long.MAX_VALUE);
+        try (BidirectionalStream stream = new BidirectionalStream(stub, transmitter, budget, 1)) {
+            Stream<Transaction.ResPart> parts = stream.stream(Transaction.Req.newBuilder());
+            awaitSentBatches(stub, BATCHES);
+            assertEquals(BATCHES * BATCH_SIZE, parts.count());
+            assertEquals(0, stream.bufferedBytes());
+        }
+    }
+
+    @Test
+    public void exhausted_stream_budget_pauses_after_the_read_ahead_batches() throws InterruptedException {
+        EchoStub stub = EchoStub.batches(BATCHES, BATCH_SIZE);
+        BufferBudget budget = new BufferBudget(new BufferedBytes(), 1, Long.MAX_VALUE);
+        try (BidirectionalStream stream = new BidirectionalStream(stub, transmitter, budget, 3)) {
+            Stream<Transaction.ResPart> parts = stream.stream(Transaction.Req.newBuilder());
+            awaitSentBatches(stub, 3);
+            assertTrue(stream.bufferedBytes() > 0);
+            assertEquals(BATCHES * BATCH_SIZE, parts.count());
+            assertEquals(BATCHES, stub.sentBatches());
+            assertEquals(0, stream.bufferedBytes());
+        }
+    }
+
+    @Test
+    public void draining_a_paused_stream_resumes_it() throws InterruptedException {
+        EchoStub stub = EchoStub.batches(BATCHES, BATCH_SIZE);
+        BufferBudget budget = new BufferBudget(new BufferedBytes(), 1, Long.MAX_VALUE);
+        try (BidirectionalStream stream = new BidirectionalStream(stub, transmitter, budget, 1)) {
+            Iterator<Transaction.ResPart> parts = stream.stream(Transaction.Req.newBuilder()).iterator();
+            awaitSentBatches(stub, 1);
+            for (int i = 0; i < BATCH_SIZE; i++) parts.next();
+            // draining the buffer requests the next batch, despite the budget being exhausted until then
+            awaitSentBatches(stub, 2);
+            assertTrue(parts.hasNext());
+        }
+    }
+
+    @Test
+    public void exhausted_client_budget_pauses_every_stream() throws InterruptedException {
+        EchoStub stub = EchoStub.batches(BATCHES, BATCH_SIZE);
+        BufferedBytes client = new BufferedBytes();
+        BufferBudget budget = new BufferBudget(client, Long.MAX_VALUE, 1);
+        try (BidirectionalStream stream = new BidirectionalStream(stub, transmitter, budget, 1)) {
+            Stream<Transaction.ResPart> first = stream.stream(Transaction.Req.newBuilder());
+            awaitSentBatches(stub, 1);
+            Stream<Transaction.ResPart> second = stream.stream(Transaction.Req.newBuilder());
+            awaitSentBatches(stub, 2);
+            long secondBytes = client.get() / 2;
+            assertEquals(BATCHES * BATCH_SIZE, first.count());
+            assertEquals(secondBytes, client.get());
+            assertEquals(BATCHES * BATCH_SIZE, second.count());
+            assertEquals(0, client.get());
+        }
+    }
+
+    @Test
+    public void closed_stream_releases_its_share_of_the_client_budget() throws InterruptedException {
+        EchoStub stub = EchoStub.batches(BATCHES, BATCH_SIZE);
+        BufferedBytes client = new BufferedBytes();
+        BufferBudget budget = new BufferBudget(client, 1, Long.MAX_VALUE);
+        BidirectionalStream stream = new BidirectionalStream(stub, transmitter, budget, 1);
+        Stream<Transaction.ResPart> parts = stream.stream(Transaction.Req.newBuilder());
+        awaitSentBatches(stub, 1);
+        assertTrue(client.get() > 0);
+        parts.close();
+        assertEquals(0, client.get());
+        stream.close();
+    }
+
+    private static void awaitSentBatches(EchoStub stub, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (stub.sentBatches() < expected && System.currentTimeMillis() < deadline) Thread.sleep(1);
+        Thread.sleep(QUIESCENCE_MILLIS);
+        assertEquals(expected, stub.sentBatches());
+    }
+}
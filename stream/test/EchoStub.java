@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.stream;
+
+import com.google.protobuf.ByteString;
+import com.vaticle.typedb.client.common.rpc.TypeDBStub;
+import com.vaticle.typedb.protocol.QueryProto;
+import com.vaticle.typedb.protocol.TransactionProto.Transaction;
+import com.vaticle.typedb.protocol.TypeDBGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.stub.StreamObserver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Answers unary requests and commits at once, and streamed requests with batches that each wait for a continuation
+// as the server does
+class EchoStub extends TypeDBStub {
+
+    private final int batches;
+    private final int batchSize;
+    private final AtomicInteger sentBatches;
+    private final AtomicInteger unexpectedContinuations;
+
+    private EchoStub(int batches, int batchSize) {
+        this.batches = batches;
+        this.batchSize = batchSize;
+        sentBatches = new AtomicInteger(0);
+        unexpectedContinuations = new AtomicInteger(0);
+    }
+
+    static EchoStub unary() {
+        return new EchoStub(-1, 0);
+    }
+
+    static EchoStub empty() {
+        return new EchoStub(0, 0);
+    }
+
+    static EchoStub batches(int batches, int batchSize) {
+        return new EchoStub(batches, batchSize);
+    }
+
+    int sentBatches() {
+        return sentBatches.get();
+    }
+
+    int unexpectedContinuations() {
+        return unexpectedContinuations.get();
+    }
+
+    @Override
+    public StreamObserver<Transaction.Client> transaction(StreamObserver<Transaction.Server> responseObserver) {
+        return new StreamObserver<Transaction.Client>() {
+
+            private final Map<ByteString, Streamed> streams = new HashMap<>();
+
+            @Override
+            public synchronized void onNext(Transaction.Client clientMsg) {
+                for (Transaction.Req req : clientMsg.getReqsList()) {
+                    if (req.hasStreamReq()) {
+                        Streamed streamed = streams.get(req.getReqId());
+                        if (streamed == null) unexpectedContinuations.incrementAndGet();
+                        else if (streamed.isWaiting) sendBatch(req.getReqId(), streamed);
+                        else streamed.credits++;
+                    } else if (batches < 0 || req.hasCommitReq()) {
+                        responseObserver.onNext(Transaction.Server.newBuilder().setRes(
+                                Transaction.Res.newBuilder().setReqId(req.getReqId())
+                        ).build());
+                    } else {
+                        Streamed streamed = new Streamed(batches);
+                        streams.put(req.getReqId(), streamed);
+                        sendBatch(req.getReqId(), streamed);
+                    }
+                }
+            }
+
+            private void sendBatch(ByteString reqID, Streamed streamed) {
+                while (true) {
+                    streamed.isWaiting = false;
+                    if (streamed.remainingBatches == 0) {
+                        streams.remove(reqID);
+                        sendState(reqID, Transaction.Stream.State.DONE);
+                        return;
+                    }
+                    for (int i = 0; i < batchSize; i++) {
+                        responseObserver.onNext(Transaction.Server.newBuilder().setResPart(
+                                Transaction.ResPart.newBuilder().setReqId(reqID).setQueryManagerResPart(
+                                        QueryProto.QueryManager.ResPart.getDefaultInstance()
+                                )
+                        ).build());
+                    }
+                    sentBatches.incrementAndGet();
+                    streamed.remainingBatches--;
+                    if (streamed.remainingBatches == 0) continue;
+                    sendState(reqID, Transaction.Stream.State.CONTINUE);
+                    if (streamed.credits == 0) {
+                        streamed.isWaiting = true;
+                        return;
+                    }
+                    streamed.credits--;
+                }
+            }
+
+            private void sendState(ByteString reqID, Transaction.Stream.State state) {
+                responseObserver.onNext(Transaction.Server.newBuilder().setResPart(
+                        Transaction.ResPart.newBuilder().setReqId(reqID).setStreamResPart(
+                                Transaction.Stream.ResPart.newBuilder().setState(state)
+                        )
+                ).build());
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                responseObserver.onError(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    @Override
+    protected ManagedChannel channel() {
+        return null;
+    }
+
+    @Override
+    protected TypeDBGrpc.TypeDBBlockingStub blockingStub() {
+        return null;
+    }
+
+    @Override
+    protected TypeDBGrpc.TypeDBStub asyncStub() {
+        return null;
+    }
+
+    private static class Streamed {
+
+        private int remainingBatches;
+        private int credits;
+        private boolean isWaiting;
+
+        private Streamed(int batches) {
+            remainingBatches = batches;
+            credits = 0;
+            isWaiting = false;
+        }
+    }
+}
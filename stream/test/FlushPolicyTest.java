@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.stream;
+
+import org.junit.Test;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FlushPolicyTest {
+
+    private static final long MAX_WINDOW_NANOS = MILLISECONDS.toNanos(2);
+
+    private final FlushPolicy policy = new FlushPolicy.Adaptive(MAX_WINDOW_NANOS, 16, 64, 1024);
+
+    @Test
+    public void lone_pending_request_is_flushed_immediately() {
+        assertEquals(0, policy.windowNanos(MICROSECONDS.toNanos(10), 1));
+        assertEquals(0, policy.windowNanos(MICROSECONDS.toNanos(500), 1));
+        assertEquals(0, policy.windowNanos(MICROSECONDS.toNanos(10), 0));
+    }
+
+    @Test
+    public void sparse_arrivals_are_flushed_immediately() {
+        assertEquals(0, policy.windowNanos(MILLISECONDS.toNanos(1) + 1, 8));
+        assertEquals(0, policy.windowNanos(MILLISECONDS.toNanos(10), 8));
+        assertEquals(0, policy.windowNanos(0, 8));
+    }
+
+    @Test
+    public void window_grows_with_arrival_rate_up_to_the_limit() {
+        assertEquals(MICROSECONDS.toNanos(16 * 10), policy.windowNanos(MICROSECONDS.toNanos(10), 2));
+        assertEquals(MICROSECONDS.toNanos(16 * 100), policy.windowNanos(MICROSECONDS.toNanos(100), 2));
+        assertEquals(MAX_WINDOW_NANOS, policy.windowNanos(MICROSECONDS.toNanos(500), 2));
+    }
+
+    @Test
+    public void batch_is_full_on_either_threshold() {
+        assertFalse(policy.isFull(63, 1023));
+        assertTrue(policy.isFull(64, 0));
+        assertTrue(policy.isFull(1, 1024));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.stream;
+
+import com.vaticle.typedb.common.concurrent.NamedThreadFactory;
+import com.vaticle.typedb.protocol.TransactionProto.Transaction;
+import io.grpc.stub.StreamObserver;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class RequestTransmitterTest {
+
+    private static final long LONG_WINDOW_NANOS = SECONDS.toNanos(10);
+    private static final long SHORT_WINDOW_NANOS = MILLISECONDS.toNanos(200);
+
+    @Test
+    public void lone_request_is_sent_without_waiting_for_a_window() throws InterruptedException {
+        RequestTransmitter transmitter = transmitter(LONG_WINDOW_NANOS, Integer.MAX_VALUE);
+        try {
+            RecordingObserver observer = new RecordingObserver(null);
+            RequestTransmitter.Dispatcher dispatcher = transmitter.dispatcher(observer);
+            for (int i = 0; i < 100; i++) {
+                dispatcher.dispatch(Transaction.Req.getDefaultInstance());
+                assertNotNull(observer.messages.poll(1, SECONDS));
+            }
+        } finally {
+            transmitter.close();
+        }
+    }
+
+    @Test
+    public void full_batch_cuts_the_window_short() throws InterruptedException {
+        RequestTransmitter transmitter = transmitter(LONG_WINDOW_NANOS, 2);
+        try {
+            RecordingObserver observer = new RecordingObserver(null);
+            RequestTransmitter.Dispatcher dispatcher = transmitter.dispatcher(observer);
+            dispatcher.dispatch(Transaction.Req.getDefaultInstance());
+            dispatcher.dispatch(Transaction.Req.getDefaultInstance());
+            int received = 0;
+            while (received < 2) {
+                Transaction.Client message = observer.messages.poll(1, SECONDS);
+                assertNotNull(message);
+                received += message.getReqsCount();
+            }
+        } finally {
+            transmitter.close();
+        }
+    }
+
+    @Test
+    public void requests_queued_behind_a_send_are_batched_within_a_window() throws InterruptedException {
+        RequestTransmitter transmitter = transmitter(SHORT_WINDOW_NANOS, Integer.MAX_VALUE);
+        try {
+            CountDownLatch firstSendReleased = new CountDownLatch(1);
+            RecordingObserver observer = new RecordingObserver(firstSendReleased);
+            RequestTransmitter.Dispatcher dispatcher = transmitter.dispatcher(observer);
+            dispatcher.dispatch(Transaction.Req.getDefaultInstance());
+            assertTrue(observer.firstSendStarted.await(1, SECONDS));
+            dispatcher.dispatch(Transaction.Req.getDefaultInstance());
+            dispatcher.dispatch(Transaction.Req.getDefaultInstance());
+            long releasedAt = System.nanoTime();
+            firstSendReleased.countDown();
+            assertEquals(1, observer.messages.poll(1, SECONDS).getReqsCount());
+            Transaction.Client batch = observer.messages.poll(1, SECONDS);
+            assertNotNull(batch);
+            assertEquals(2, batch.getReqsCount());
+            assertTrue(System.nanoTime() - releasedAt >= SHORT_WINDOW_NANOS / 2);
+        } finally {
+            transmitter.close();
+        }
+    }
+
+    @Test
+    public void failed_flush_does_not_stop_the_executor() throws InterruptedException {
+        RequestTransmitter transmitter = transmitter(LONG_WINDOW_NANOS, Integer.MAX_VALUE);
+        try {
+            CountDownLatch failed = new CountDownLatch(1);
+            RequestTransmitter.Dispatcher failing = transmitter.dispatcher(new RecordingObserver(null) {
+                @Override
+                public void onNext(Transaction.Client message) {
+                    failed.countDown();
+                    throw new IllegalStateException("send failed");
+                }
+            });
+            failing.dispatch(Transaction.Req.getDefaultInstance());
+            assertTrue(failed.await(1, SECONDS));
+
+            RecordingObserver observer = new RecordingObserver(null);
+            transmitter.dispatcher(observer).dispatch(Transaction.Req.getDefaultInstance());
+            assertNotNull(observer.messages.poll(1, SECONDS));
+        } finally {
+            transmitter.close();
+        }
+    }
+
+    private static RequestTransmitter transmitter(long window, int maxBatchRequests) {
+        return new RequestTransmitter(1, NamedThreadFactory.create("typedb-client-rpc-test"), new FlushPolicy() {
+            @Override
+            public long windowNanos(long meanArrivalGapNanos, int pendingRequests) {
+                return pendingRequests > 1 ? window : 0;
+            }
+
+            @Override
+            public boolean isFull(int pendingRequests, long pendingBytes) {
+                return pendingRequests >= maxBatchRequests;
+            }
+        });
+    }
+
+    private static class RecordingObserver implements StreamObserver<Transaction.Client> {
+
+        private final LinkedBlockingQueue<Transaction.Client> messages;
+        private final CountDownLatch firstSendStarted;
+        private final CountDownLatch firstSendReleased;
+
+        private RecordingObserver(CountDownLatch firstSendReleased) {
+            this.messages = new LinkedBlockingQueue<>();
+            this.firstSendStarted = new CountDownLatch(1);
+            this.firstSendReleased = firstSendReleased;
+        }
+
+        @Override
+        public void onNext(Transaction.Client message) {
+            messages.add(message);
+            if (firstSendStarted.getCount() > 0) {
+                firstSendStarted.countDown();
+                if (firstSendReleased != null) await(firstSendReleased);
+            }
+        }
+
+        private static void await(CountDownLatch latch) {
+            try {
+                latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2022 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.vaticle.typedb.client.test.integration;
+
+import com.vaticle.typedb.client.TypeDB;
+import com.vaticle.typedb.client.api.TypeDBClient;
+import com.vaticle.typedb.client.api.TypeDBSession;
+import com.vaticle.typedb.client.api.TypeDBTransaction;
+import com.vaticle.typedb.client.api.concept.SchemaSnapshot;
+import com.vaticle.typedb.client.api.concept.type.AttributeType;
+import com.vaticle.typedb.client.api.concept.type.RelationType;
+import com.vaticle.typedb.client.api.concept.type.RoleType;
+import com.vaticle.typedb.client.api.concept.type.ThingType;
+import com.vaticle.typedb.client.api.concept.type.Type;
+import com.vaticle.typedb.common.test.core.TypeDBCoreRunner;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.client.api.TypeDBSession.Type.SCHEMA;
+import static com.vaticle.typedb.client.api.TypeDBTransaction.Type.READ;
+import static com.vaticle.typedb.client.api.TypeDBTransaction.Type.WRITE;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+
+public class SchemaSnapshotTest {
+    private static final String DATABASE = "schema-snapshot";
+    private static TypeDBCoreRunner typedb;
+    private static TypeDBClient typedbClient;
+
+    @BeforeClass
+    public static void setUpClass() throws InterruptedException, IOException, TimeoutException {
+        typedb = new TypeDBCoreRunner();
+        typedb.start();
+        typedbClient = TypeDB.coreClient(typedb.address());
+        if (typedbClient.databases().contains(DATABASE)) typedbClient.databases().get(DATABASE).delete();
+        typedbClient.databases().create(DATABASE);
+        try (TypeDBSession session = typedbClient.session(DATABASE, SCHEMA);
+             TypeDBTransaction tx = session.transaction(WRITE)) {
+            tx.query().define("define " +
+                    "name sub attribute, abstract, value string; " +
+                    "nickname sub name; " +
+                    "employment sub relation, relates employee, relates employer; " +
+                    "part-time-employment sub employment, relates part-time-employee as employee; " +
+                    "person sub entity, abstract, owns name, plays employment:employee; " +
+                    "student sub person, owns nickname as name, " +
+                    "    plays part-time-employment:part-time-employee as employee; " +
+                    "company sub entity, plays employment:employer;");
+            tx.commit();
+        }
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        typedbClient.close();
+        typedb.stop();
+    }
+
+    @Test
+    public void snapshot_matches_remote_schema_including_overrides() {
+        try (TypeDBSession session = typedbClient.session(DATABASE, SCHEMA);
+             TypeDBTransaction tx = session.transaction(READ)) {
+            SchemaSnapshot snapshot = tx.concepts().schemaSnapshot();
+            snapshot.getThingTypes().forEach(type -> {
+                ThingType.Remote remote = type.asRemote(tx);
+                assertEquals(type.getLabel() + " owns", labels(remote.getOwns()), labels(snapshot.getOwns(type)));
+                assertEquals(type.getLabel() + " plays", labels(remote.getPlays()), labels(snapshot.getPlays(type)));
+                snapshot.getOwnsExplicit(type).forEach(attributeType -> assertEquals(
+                        label(remote.getOwnsOverridden(attributeType)), label(snapshot.getOwnsOverridden(type, attributeType))
+                ));
+                snapshot.getPlaysExplicit(type).forEach(roleType -> assertEquals(
+                        label(remote.getPlaysOverridden(roleType)), label(snapshot.getPlaysOverridden(type, roleType))
+                ));
+                if (type.isRelationType()) {
+                    RelationType relationType = type.asRelationType();
+                    RelationType.Remote remoteRelation = relationType.asRemote(tx);
+                    assertEquals(type.getLabel() + " relates", labels(remoteRelation.getRelates()), labels(snapshot.getRelates(relationType)));
+                    snapshot.getRelatesExplicit(relationType).forEach(roleType -> assertEquals(
+                            label(remoteRelation.getRelatesOverridden(roleType)), label(snapshot.getRelatesOverridden(relationType, roleType))
+                    ));
+                }
+            });
+
+            ThingType student = snapshot.getThingType("student");
+            AttributeType nickname = snapshot.getThingType("nickname").asAttributeType();
+            assertEquals(labels(Stream.of(nickname)), labels(snapshot.getOwns(student)));
+            assertEquals("name", label(snapshot.getOwnsOverridden(student, nickname)));
+            RoleType partTimeEmployee = snapshot.getRoleType("part-time-employment", "part-time-employee");
+            assertEquals(labels(Stream.of(partTimeEmployee)), labels(snapshot.getPlays(student)));
+            assertEquals("employment:employee", label(snapshot.getPlaysOverridden(student, partTimeEmployee)));
+            RelationType partTimeEmployment = snapshot.getThingType("part-time-employment").asRelationType();
+            assertEquals("employment:employee", label(snapshot.getRelatesOverridden(partTimeEmployment, partTimeEmployee)));
+        }
+    }
+
+    private static Set<String> labels(Stream<? extends Type> types) {
+        return types.map(SchemaSnapshotTest::label).collect(toSet());
+    }
+
+    private static String label(Type type) {
+        return type == null ? null : type.getLabel().scopedName();
+    }
+}